@@ -0,0 +1,41 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.GeneticAlgorithm;
+import net.caspervg.jgaf.Solution;
+import net.caspervg.jgaf.step.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs {@link GeneticAlgorithm.Default} for a fixed number of generations with the default steps,
+ * including the creation of the initial population
+ */
+@State(Scope.Benchmark)
+public class AlgorithmBenchmark extends BenchmarkSettings {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"10"})
+    public int iterations;
+
+    private Arguments arguments;
+    private Provider<Double, Long> provider;
+    private GeneticAlgorithm<Long> algorithm;
+
+    @Setup
+    public void setUp() {
+        arguments = Organisms.arguments(size, iterations);
+        provider = Organisms.provider();
+        algorithm = Organisms.algorithm();
+    }
+
+    @Benchmark
+    public Solution<Long> run() {
+        return algorithm.run(arguments, provider);
+    }
+}
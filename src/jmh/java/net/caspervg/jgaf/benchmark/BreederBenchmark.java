@@ -0,0 +1,43 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.step.Breeder;
+import net.caspervg.jgaf.step.breeder.BasicBreeder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Breeds a pool of {@link Arguments#breedingPoolSize()} parents with {@link BasicBreeder}
+ */
+@State(Scope.Benchmark)
+public class BreederBenchmark extends BenchmarkSettings {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Arguments arguments;
+    private Population<Long> population;
+    private List<Long> parents;
+    private Breeder<Long> breeder;
+
+    @Setup
+    public void setUp() {
+        arguments = Organisms.arguments(size, 1);
+        population = Organisms.scoredPopulation(arguments);
+        parents = new ArrayList<>(population.asList().subList(0, arguments.breedingPoolSize()));
+        breeder = new BasicBreeder<>(Organisms.CROSSER);
+    }
+
+    @Benchmark
+    public Collection<Long> breed() {
+        return breeder.breed(arguments, population, parents);
+    }
+}
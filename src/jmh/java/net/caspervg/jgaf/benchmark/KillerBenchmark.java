@@ -0,0 +1,64 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
+import net.caspervg.jgaf.step.Killer;
+import net.caspervg.jgaf.step.killer.BasicKiller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Removes {@link Arguments#killingPoolSize()} organisms with {@link BasicKiller}, from a
+ * {@link ScoredPopulation} and from a plain {@link Population}. The killer returns a new population,
+ * so the populations are the same for every invocation.
+ */
+@State(Scope.Benchmark)
+public class KillerBenchmark extends BenchmarkSettings {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Arguments arguments;
+    private ScoredPopulation<Long> scored;
+    private Population<Long> plain;
+    private List<Long> scoredVictims;
+    private List<Long> plainVictims;
+    private Killer<Long> killer;
+
+    @Setup
+    public void setUp() {
+        arguments = Organisms.arguments(size, 1);
+        scored = Organisms.scoredPopulation(arguments);
+        plain = Organisms.population(arguments);
+        scoredVictims = victims(scored);
+        plainVictims = victims(plain);
+        killer = new BasicKiller<>();
+    }
+
+    private List<Long> victims(Population<Long> population) {
+        // Spread over the population, like the worst organisms would be
+        int count = arguments.killingPoolSize();
+        List<Long> victims = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            victims.add(population.get((int) ((long) i * population.size() / count)));
+        }
+        return victims;
+    }
+
+    @Benchmark
+    public Population<Long> scored() {
+        return killer.kill(arguments, scored, scoredVictims);
+    }
+
+    @Benchmark
+    public Population<Long> plain() {
+        return killer.kill(arguments, plain, plainVictims);
+    }
+}
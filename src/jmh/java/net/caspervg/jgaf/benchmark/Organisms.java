@@ -0,0 +1,123 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.GeneticAlgorithm;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.OptimizerFactory;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.ScoredPopulation;
+import net.caspervg.jgaf.step.Crosser;
+import net.caspervg.jgaf.step.Provider;
+import net.caspervg.jgaf.step.breeder.BasicBreederFactory;
+import net.caspervg.jgaf.step.fitter.DoubleFitter;
+import net.caspervg.jgaf.step.killer.BasicKillerFactory;
+import net.caspervg.jgaf.step.provider.ProviderBuilder;
+import net.caspervg.jgaf.step.selector.TournamentSelectorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Organisms and steps shared by the benchmarks
+ * <p>
+ *     An organism is a random {@code long}, so the steps themselves cost next to nothing and the
+ *     benchmarks measure the framework around them. With 64 random bits, organisms are distinct in
+ *     practice, so {@link net.caspervg.jgaf.step.killer.BasicKiller} does not shrink the population.
+ *     The fitness is the organism mapped to {@code [0, 1)}, which suits every selector.
+ * </p>
+ */
+final class Organisms {
+
+    static final long SEED = 42;
+
+    static final DoubleFitter<Long> FITTER = organism -> (organism >>> 11) * 0x1.0p-53;
+
+    static final Crosser<Long> CROSSER = new Crosser<Long>() {
+        @Override
+        public List<Long> cross(List<Long> parents) {
+            return cross(parents, RandomSource.PerThread.instance());
+        }
+
+        @Override
+        public List<Long> cross(Arguments arguments, List<Long> parents) {
+            return cross(parents, arguments.random());
+        }
+
+        private List<Long> cross(List<Long> parents, RandomSource random) {
+            long mask = random.nextLong();
+            long father = parents.get(0);
+            long mother = parents.get(1);
+
+            List<Long> children = new ArrayList<>(2);
+            children.add((father & mask) | (mother & ~mask));
+            children.add((mother & mask) | (father & ~mask));
+            return children;
+        }
+    };
+
+    private Organisms() {
+        // Only static members
+    }
+
+    /**
+     * Creates arguments for a population of the given size, with a seeded source of random numbers
+     */
+    static Arguments arguments(int size, int iterations) {
+        return new Arguments.Default(SEED) {
+            @Override
+            public int populationSize() {
+                return size;
+            }
+
+            @Override
+            public int numIterations() {
+                return iterations;
+            }
+        };
+    }
+
+    /**
+     * Creates a population of random organisms
+     */
+    static Population<Long> population(Arguments arguments) {
+        RandomSource random = arguments.random();
+        List<Long> organisms = new ArrayList<>(arguments.populationSize());
+        for (int i = 0; i < arguments.populationSize(); i++) {
+            organisms.add(random.nextLong());
+        }
+        return new Population.Default<>(organisms);
+    }
+
+    /**
+     * Creates a population of random organisms that remembers their fitness
+     */
+    static ScoredPopulation<Long> scoredPopulation(Arguments arguments) {
+        return new ScoredPopulation<>(FITTER, population(arguments));
+    }
+
+    /**
+     * Creates a provider with the default steps: tournaments, {@link net.caspervg.jgaf.step.breeder.BasicBreeder}
+     * and {@link net.caspervg.jgaf.step.killer.BasicKiller}
+     */
+    static Provider<Double, Long> provider() {
+        return ProviderBuilder.<Double, Long>aProvider()
+                .withGoal(new Goal.Maximum())
+                .withFitter(FITTER)
+                .withCreator(Organisms::population)
+                .withMutator((arguments, organism) -> organism ^ (1L << arguments.random().nextInt(Long.SIZE)))
+                .withCrosser(CROSSER)
+                .withSelectorFactory(new TournamentSelectorFactory<>())
+                .withBreederFactory(new BasicBreederFactory<>())
+                .withKillerFactory(new BasicKillerFactory<>())
+                .withOptimizerFactory(new OptimizerFactory<>())
+                .build();
+    }
+
+    /**
+     * Creates the algorithm that is benchmarked
+     */
+    static GeneticAlgorithm<Long> algorithm() {
+        return new GeneticAlgorithm.Default<>();
+    }
+}
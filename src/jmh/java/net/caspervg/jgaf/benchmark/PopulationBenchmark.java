@@ -0,0 +1,70 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operations of {@link Population.Default} that the algorithm performs every generation: copying,
+ * iterating, looking up the indices of a breeding pool, and removing a killing pool by index
+ */
+@State(Scope.Benchmark)
+public class PopulationBenchmark extends BenchmarkSettings {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Population<Long> population;
+    private List<Long> pool;
+    private int[] indices;
+
+    @Setup
+    public void setUp() {
+        Arguments arguments = Organisms.arguments(size, 1);
+        population = Organisms.population(arguments);
+
+        int count = arguments.breedingPoolSize();
+        pool = new ArrayList<>(count);
+        indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = (int) ((long) i * size / count);
+            pool.add(population.get(indices[i]));
+        }
+    }
+
+    @Benchmark
+    public Population<Long> copy() {
+        return new Population.Default<>(population);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Long organism : population) {
+            blackhole.consume(organism);
+        }
+    }
+
+    @Benchmark
+    public int[] indicesOf() {
+        return population.indicesOf(pool);
+    }
+
+    /**
+     * Removal changes the population, so this includes a copy of the population. Subtract
+     * {@link #copy()} to get the cost of the removal itself.
+     */
+    @Benchmark
+    public Population<Long> copyAndRemove() {
+        Population<Long> copy = new Population.Default<>(population);
+        copy.remove(indices);
+        return copy;
+    }
+}
@@ -0,0 +1,63 @@
+package net.caspervg.jgaf.benchmark;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
+import net.caspervg.jgaf.step.Selector;
+import net.caspervg.jgaf.step.selector.FitnessProportionateSelector;
+import net.caspervg.jgaf.step.selector.TournamentSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Selects a breeding pool of {@link Arguments#breedingPoolSize()} organisms, from a
+ * {@link ScoredPopulation} and from a plain {@link Population} whose fitness has to be calculated
+ */
+@State(Scope.Benchmark)
+public class SelectorBenchmark extends BenchmarkSettings {
+
+    /**
+     * Selector to benchmark
+     */
+    public enum Kind {
+        TOURNAMENT,
+        FITNESS_PROPORTIONATE
+    }
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Kind kind;
+
+    private Arguments arguments;
+    private Goal goal;
+    private ScoredPopulation<Long> scored;
+    private Population<Long> plain;
+    private Selector<Long> selector;
+
+    @Setup
+    public void setUp() {
+        arguments = Organisms.arguments(size, 1);
+        goal = new Goal.Maximum();
+        scored = Organisms.scoredPopulation(arguments);
+        plain = Organisms.population(arguments);
+        selector = kind == Kind.TOURNAMENT
+                ? new TournamentSelector<>(Organisms.FITTER, 5)
+                : new FitnessProportionateSelector<>(Organisms.FITTER);
+    }
+
+    @Benchmark
+    public int[] scored() {
+        return selector.selectIndices(arguments, scored, goal);
+    }
+
+    @Benchmark
+    public int[] plain() {
+        return selector.selectIndices(arguments, plain, goal);
+    }
+}
@@ -61,9 +61,179 @@ public interface Arguments {
         return new Goal.Maximum();
     }
 
+    /**
+     * Number of best organisms that are never killed. By default, this is {@code 0}, so any organism
+     * can be killed. With a killer that removes organisms by equality, an elite organism may be replaced
+     * by an equal organism of the population, or put back after killing, but it is never lost.
+     *
+     * @return Number of elite organisms
+     */
+    default int eliteSize() {
+        return 0;
+    }
+
+    /**
+     * What to do with children that are equal to an organism that is already in the population. Exact
+     * duplicates are found with a {@link GenomeIndex} before they are scored, so rejecting or penalising
+     * them saves a fitness evaluation for every duplicate. By default, this is {@link GenomeIndex.Policy#ALLOW},
+     * so duplicates are scored like any other child and no index is kept. The
+     * {@link net.caspervg.jgaf.metrics.GenerationStatistics#getDistinctRatio() ratio of distinct organisms} is
+     * then only counted when the statistics of a generation are needed. The steady-state algorithms do not look
+     * for duplicates.
+     *
+     * @return Policy for duplicate children
+     */
+    default GenomeIndex.Policy duplicatePolicy() {
+        return GenomeIndex.Policy.ALLOW;
+    }
+
+    /**
+     * Number of threads to use for the steps that can run in parallel. By default, this is
+     * the number of available processors.
+     *
+     * @return Number of threads
+     */
+    default int parallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Condition to stop the algorithm before {@link #numIterations()} is reached. By default, this is
+     * {@link TerminationCondition#NEVER}, so all iterations are run.
+     *
+     * @return Condition to stop early
+     */
+    default TerminationCondition terminationCondition() {
+        return TerminationCondition.NEVER;
+    }
+
+    /**
+     * Source of random numbers for the steps. By default, this is {@link RandomSource.PerThread},
+     * which cannot be seeded but can be shared between threads without contention.
+     *
+     * @return Source of random numbers
+     */
+    default RandomSource random() {
+        return RandomSource.PerThread.instance();
+    }
+
+    /**
+     * Returns a view of these arguments that uses a different source of random numbers.
+     * This can be used to hand an independent stream (see {@link RandomSource#split()}) to every
+     * thread that works on a step.
+     *
+     * @param random Source of random numbers to use
+     * @return Arguments that are the same as these, except for {@link #random()}
+     */
+    default Arguments withRandom(RandomSource random) {
+        return new Delegate(this) {
+            @Override
+            public RandomSource random() {
+                return random;
+            }
+        };
+    }
+
     /**
      * Default set of arguments, using all the defaults outlined in the {@link Arguments} interface
      */
     class Default implements Arguments {
+
+        private RandomSource random;
+
+        /**
+         * Creates a default set of arguments
+         */
+        public Default() {
+            this.random = RandomSource.PerThread.instance();
+        }
+
+        /**
+         * Creates a default set of arguments with a seeded {@link RandomSource.Splittable}.
+         * Runs that only use {@link #random()} for randomness can be reproduced with the same seed.
+         *
+         * @param seed Seed for the random numbers
+         */
+        public Default(long seed) {
+            this.random = new RandomSource.Splittable(seed);
+        }
+
+        @Override
+        public RandomSource random() {
+            return random;
+        }
+    }
+
+    /**
+     * Set of arguments that forwards everything to another set of arguments.
+     * Subclasses can override the arguments they want to change.
+     */
+    class Delegate implements Arguments {
+
+        private Arguments delegate;
+
+        /**
+         * Creates a new set of arguments that forwards to the given arguments
+         *
+         * @param delegate Arguments to forward to
+         */
+        public Delegate(Arguments delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int populationSize() {
+            return delegate.populationSize();
+        }
+
+        @Override
+        public int numIterations() {
+            return delegate.numIterations();
+        }
+
+        @Override
+        public Number maximumMutationAmount() {
+            return delegate.maximumMutationAmount();
+        }
+
+        @Override
+        public int breedingPoolSize() {
+            return delegate.breedingPoolSize();
+        }
+
+        @Override
+        public int killingPoolSize() {
+            return delegate.killingPoolSize();
+        }
+
+        @Override
+        public Goal goal() {
+            return delegate.goal();
+        }
+
+        @Override
+        public int eliteSize() {
+            return delegate.eliteSize();
+        }
+
+        @Override
+        public GenomeIndex.Policy duplicatePolicy() {
+            return delegate.duplicatePolicy();
+        }
+
+        @Override
+        public int parallelism() {
+            return delegate.parallelism();
+        }
+
+        @Override
+        public TerminationCondition terminationCondition() {
+            return delegate.terminationCondition();
+        }
+
+        @Override
+        public RandomSource random() {
+            return delegate.random();
+        }
     }
 }
@@ -0,0 +1,210 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.metrics.GenerationListener;
+import net.caspervg.jgaf.step.AsyncFitter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Implementation of a steady-state genetic algorithm that keeps breeding while organisms are scored.
+ * <p>
+ *     The algorithm is the same as {@link SteadyStateGeneticAlgorithm}, but the fitness of a child is
+ *     calculated with an {@link AsyncFitter}. The thread that runs the algorithm keeps breeding children
+ *     and starting their evaluations until {@code maximumInFlight} of them are running, and then lets
+ *     every result replace an organism as soon as it arrives. Slow evaluations never hold up the others.
+ *     Only the thread that runs the algorithm touches the population, so the steps need not be thread-safe.
+ * </p>
+ * <p>
+ *     If the fitter of the provider does not implement {@link AsyncFitter}, it is called on an executor.
+ *     If no executor is given, a {@link ForkJoinPool} with {@link Arguments#parallelism()} threads is
+ *     created for every run and shut down afterwards. Fitters that wait for I/O can run on
+ *     {@link #newVirtualThreadExecutor() virtual threads} instead.
+ * </p>
+ * <p>
+ *     Since children are scored out of order, a generation is counted as {@link Arguments#populationSize()}
+ *     results rather than children bred. When the iterations run out or the termination condition is met,
+ *     no new evaluations are started, but the ones that are still running are waited for.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class AsyncGeneticAlgorithm<O> extends SteadyStateGeneticAlgorithm<O> {
+
+    private final int maximumInFlight;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an asynchronous genetic algorithm that uses its own {@link ForkJoinPool}
+     *
+     * @param maximumInFlight Maximum number of evaluations that run at the same time
+     */
+    public AsyncGeneticAlgorithm(int maximumInFlight) {
+        this(maximumInFlight, null);
+    }
+
+    /**
+     * Creates an asynchronous genetic algorithm that calls the fitter on the given executor
+     *
+     * @param maximumInFlight Maximum number of evaluations that run at the same time
+     * @param executor Executor to call the fitter on, or {@code null} to use a new {@link ForkJoinPool}
+     *                 for every run. The executor will not be shut down by the algorithm.
+     */
+    public AsyncGeneticAlgorithm(int maximumInFlight, ExecutorService executor) {
+        this(maximumInFlight, executor, 2, GenerationListener.NONE);
+    }
+
+    /**
+     * Creates an asynchronous genetic algorithm
+     *
+     * @param maximumInFlight Maximum number of evaluations that run at the same time
+     * @param executor Executor to call the fitter on, or {@code null} to use a new {@link ForkJoinPool}
+     *                 for every run. The executor will not be shut down by the algorithm.
+     * @param tournamentSize Number of participants in the tournament for a parent
+     * @param listener Listener to report measurements to
+     */
+    public AsyncGeneticAlgorithm(int maximumInFlight, ExecutorService executor, int tournamentSize,
+                                 GenerationListener listener) {
+        super(tournamentSize, listener);
+        if (maximumInFlight < 1) {
+            throw new IllegalArgumentException("Need to allow at least one evaluation in flight");
+        }
+
+        this.maximumInFlight = maximumInFlight;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task. Virtual threads are cheap
+     * to block, so this suits fitters that mostly wait for another process or service.
+     *
+     * @return Executor that runs every task on a new virtual thread
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // Looked up at runtime, so the library still runs on JVMs without virtual threads
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e.getCause());
+        }
+    }
+
+    @Override
+    void evolve(State<O> state, GeneticAlgorithm.Default.Meter meter) {
+        ExecutorService pool = executor != null ? executor : new ForkJoinPool(state.arguments.parallelism());
+        try {
+            evolve(state, meter, AsyncFitter.of(state.provider.fitter(), pool));
+        } finally {
+            if (executor == null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private void evolve(State<O> state, GeneticAlgorithm.Default.Meter meter, AsyncFitter<O> fitter) {
+        BlockingQueue<Result<O>> results = new LinkedBlockingQueue<>();
+        long budget = (long) state.arguments.numIterations() * state.population.size();
+        long started = 0;
+        int inFlight = 0;
+        int iterations = 0;
+        int evaluated = 0;
+
+        Iterator<O> pending = Collections.emptyIterator();
+        while (true) {
+            boolean breeding = !meter.isDone() && started < budget;
+            while (breeding && inFlight < maximumInFlight) {
+                if (!pending.hasNext()) {
+                    pending = state.breed().iterator();
+                    continue;
+                }
+
+                O child = pending.next();
+                fitter.calculateAsync(child).whenComplete((score, failure) ->
+                        results.add(Result.of(child, score, failure)));
+                inFlight++;
+                started++;
+                breeding = started < budget;
+            }
+
+            if (inFlight == 0) {
+                return;
+            }
+
+            Result<O> result = take(results);
+            inFlight--;
+            if (result.failure != null) {
+                rethrow(result.failure);
+            }
+            state.offer(result.organism, result.score);
+
+            if (!meter.isDone() && ++evaluated == state.population.size()) {
+                iterations++;
+                meter.generation(iterations, state.population, state.goal, evaluated);
+                evaluated = 0;
+            }
+        }
+    }
+
+    private static <O> Result<O> take(BlockingQueue<Result<O>> results) {
+        try {
+            return results.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for evaluations", e);
+        }
+    }
+
+    private static void rethrow(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException("Could not evaluate organism", cause);
+    }
+
+    private static final class Result<O> {
+        private final O organism;
+        private final double score;
+        private final Throwable failure;
+
+        private Result(O organism, double score, Throwable failure) {
+            this.organism = organism;
+            this.score = score;
+            this.failure = failure;
+        }
+
+        /**
+         * Creates the result of an evaluation. This never throws, because an exception in the callback of
+         * the future would be lost, and the algorithm would wait forever for a result that never arrives.
+         */
+        static <O> Result<O> of(O organism, Double score, Throwable failure) {
+            try {
+                if (failure != null) {
+                    return new Result<>(organism, Double.NaN, failure);
+                }
+                if (score == null) {
+                    return new Result<>(organism, Double.NaN,
+                            new IllegalStateException("Fitter completed without a fitness for " + organism));
+                }
+                return new Result<>(organism, score, null);
+            } catch (Throwable t) {
+                return new Result<>(organism, Double.NaN, t);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package net.caspervg.jgaf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the best organisms of a run, the elite, which are spared when the population is killed.
+ * <p>
+ *     The elite is a bounded binary heap with the worst elite organism at the top, so an organism that
+ *     enters the population only has to be compared with that one, and replaces it in O(log k). The best
+ *     organism is remembered separately, so it can be read without looking at the population. Organisms
+ *     are matched by identity, so an organism that is offered twice only enters the elite once.
+ * </p>
+ * <p>
+ *     Elite organisms are only removed from the elite by better organisms, so they have to stay in the
+ *     population: see {@link #spare(Population, int[], RandomSource)}. A killer that removes organisms by
+ *     equality, like {@link net.caspervg.jgaf.step.killer.BasicKiller}, can still remove an elite organism
+ *     together with an equal organism that was conscripted, so the population is
+ *     {@link #restore(ScoredPopulation) restored} after such a killer. An elite of size {@code 0} keeps
+ *     nothing and spares nothing.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+final class Elite<O> {
+
+    private final Goal goal;
+    private final Object[] organisms;
+    private final double[] scores;
+    private final Set<Object> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int size;
+    private O best;
+    private double bestScore;
+
+    /**
+     * Creates a new, empty elite
+     *
+     * @param capacity Maximum number of organisms in the elite
+     * @param goal Goal that decides which organisms are best
+     */
+    Elite(int capacity, Goal goal) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Elite size should not be negative");
+        }
+
+        this.goal = goal;
+        this.organisms = new Object[capacity];
+        this.scores = new double[capacity];
+    }
+
+    /**
+     * Creates a new elite of {@link Arguments#eliteSize()} organisms, filled with the best organisms
+     * of a population
+     *
+     * @param arguments Arguments to use
+     * @param goal Goal that decides which organisms are best
+     * @param population Population to pick the elite from
+     * @param <O> Type of the organism
+     * @return New elite
+     */
+    static <O> Elite<O> of(Arguments arguments, Goal goal, ScoredPopulation<O> population) {
+        Elite<O> elite = new Elite<>(arguments.eliteSize(), goal);
+        for (int i = 0; i < population.size(); i++) {
+            elite.offer(population.get(i), population.getScore(i));
+        }
+        return elite;
+    }
+
+    /**
+     * Lets an organism enter the elite if it is better than the worst elite organism
+     *
+     * @param organism Organism to offer
+     * @param score Fitness of the organism
+     */
+    void offer(O organism, double score) {
+        if (organisms.length == 0 || members.contains(organism)) {
+            return;
+        }
+
+        if (size < organisms.length) {
+            organisms[size] = organism;
+            scores[size] = score;
+            members.add(organism);
+            siftUp(size++);
+        } else if (goal.better(score, scores[0])) {
+            members.remove(organisms[0]);
+            organisms[0] = organism;
+            scores[0] = score;
+            members.add(organism);
+            siftDown(0);
+        } else {
+            return;
+        }
+
+        if (best == null || goal.better(score, bestScore)) {
+            best = organism;
+            bestScore = score;
+        }
+    }
+
+    /**
+     * Lets every organism of a list enter the elite if it is good enough
+     *
+     * @param children Organisms to offer
+     * @param scores Fitness of the organisms, in the same order
+     */
+    void offerAll(List<O> children, double[] scores) {
+        if (organisms.length == 0) {
+            return;
+        }
+
+        for (int i = 0; i < scores.length; i++) {
+            offer(children.get(i), scores[i]);
+        }
+    }
+
+    /**
+     * Checks whether an organism is part of the elite
+     *
+     * @param organism Organism to check
+     * @return {@code true} if the organism is an elite organism
+     */
+    boolean contains(Object organism) {
+        return members.contains(organism);
+    }
+
+    /**
+     * Returns the number of organisms in the elite
+     *
+     * @return Size of the elite
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the best organism that was ever offered
+     *
+     * @return Best organism, or {@code null} if the elite is empty
+     */
+    O best() {
+        return best;
+    }
+
+    /**
+     * Returns the fitness of the best organism
+     *
+     * @return Fitness of the best organism
+     */
+    double bestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Makes sure that no elite organism is killed. Every index of an elite organism is replaced by the
+     * index of a random organism that is neither elite nor about to be killed. If there is no such
+     * organism, the index is left out.
+     *
+     * @param population Population that will be killed
+     * @param conscripted Indices of the organisms that will be killed
+     * @param random Source of random numbers
+     * @return Indices of the organisms that will be killed, without the elite
+     */
+    int[] spare(Population<O> population, int[] conscripted, RandomSource random) {
+        if (size == 0) {
+            return conscripted;
+        }
+
+        boolean[] taken = null;
+        int[] spared = conscripted;
+        int count = 0;
+        for (int i = 0; i < conscripted.length; i++) {
+            int index = conscripted[i];
+            if (!members.contains(population.get(index))) {
+                spared[count++] = index;
+                continue;
+            }
+
+            if (taken == null) {
+                spared = conscripted.clone();
+                taken = new boolean[population.size()];
+                for (int conscript : conscripted) {
+                    taken[conscript] = true;
+                }
+            }
+
+            int substitute = substitute(population, taken, random);
+            if (substitute >= 0) {
+                taken[substitute] = true;
+                spared[count++] = substitute;
+            }
+        }
+
+        return count == conscripted.length ? spared : Arrays.copyOf(spared, count);
+    }
+
+    /**
+     * Makes sure that every elite organism is still in a population that was killed. An elite organism that
+     * was removed is replaced by an equal organism of the population if there is one, and added back to the
+     * population with its fitness otherwise. This takes O(n) time, so it should only be called if the killer
+     * did not remove exactly the organisms it was asked to.
+     *
+     * @param population Population after killing
+     */
+    void restore(ScoredPopulation<O> population) {
+        if (size == 0) {
+            return;
+        }
+
+        Set<Object> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Object, O> equals = new HashMap<>();
+        for (int i = 0; i < population.size(); i++) {
+            O organism = population.get(i);
+            present.add(organism);
+            equals.putIfAbsent(organism, organism);
+        }
+
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            O organism = (O) organisms[i];
+            if (present.contains(organism)) {
+                continue;
+            }
+
+            O copy = equals.get(organism);
+            if (copy != null && !members.contains(copy)) {
+                members.remove(organism);
+                members.add(copy);
+                organisms[i] = copy;
+                if (best == organism) {
+                    best = copy;
+                }
+            } else {
+                population.add(organism, scores[i]);
+            }
+        }
+    }
+
+    private int substitute(Population<O> population, boolean[] taken, RandomSource random) {
+        // A few random tries are enough unless nearly everything is taken, then fall back to a scan
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int candidate = random.nextInt(taken.length);
+            if (!taken[candidate] && !members.contains(population.get(candidate))) {
+                return candidate;
+            }
+        }
+        for (int candidate = 0; candidate < taken.length; candidate++) {
+            if (!taken[candidate] && !members.contains(population.get(candidate))) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!goal.worse(scores[position], scores[parent])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worse = right < size && goal.worse(scores[right], scores[left]) ? right : left;
+            if (!goal.worse(scores[worse], scores[position])) {
+                return;
+            }
+            swap(position, worse);
+            position = worse;
+        }
+    }
+
+    private void swap(int first, int second) {
+        Object organism = organisms[first];
+        organisms[first] = organisms[second];
+        organisms[second] = organism;
+
+        double score = scores[first];
+        scores[first] = scores[second];
+        scores[second] = score;
+    }
+}
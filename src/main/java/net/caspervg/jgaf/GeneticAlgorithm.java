@@ -1,8 +1,24 @@
 package net.caspervg.jgaf;
 
+import net.caspervg.jgaf.checkpoint.Checkpoint;
+import net.caspervg.jgaf.checkpoint.Checkpointer;
+import net.caspervg.jgaf.metrics.AllocationMeter;
+import net.caspervg.jgaf.metrics.GenerationListener;
+import net.caspervg.jgaf.metrics.GenerationStatistics;
+import net.caspervg.jgaf.metrics.Phase;
+import net.caspervg.jgaf.step.BatchFitter;
 import net.caspervg.jgaf.step.Provider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * Provides the genetic algorithm
@@ -20,26 +36,85 @@ public interface GeneticAlgorithm<O> {
      */
     Solution<O> run(Arguments arguments, Provider<?, O> provider);
 
+    /**
+     * Resumes the genetic algorithm from a checkpoint, using given arguments and strategy provider.
+     * The run continues after the generation of the checkpoint, up to {@link Arguments#numIterations()}.
+     * By default, this is not supported.
+     *
+     * @param arguments Arguments to use for the execution
+     * @param provider Strategy providers for the various steps
+     * @param checkpoint Checkpoint to resume from
+     * @return Solution object containing the best organism, the best fitness and the final population
+     * @throws UnsupportedOperationException if this algorithm cannot be resumed
+     */
+    default Solution<O> resume(Arguments arguments, Provider<?, O> provider, Checkpoint<O> checkpoint) {
+        throw new UnsupportedOperationException("This algorithm cannot be resumed");
+    }
+
     /**
      * Default implementation of a genetic algorithm.
      * <p>
      *     The algorithm used is:
      *     <ol>
      *         <li>Create an initial population</li>
-     *         <li>While there are still iterations to go
+     *         <li>While there are still iterations to go, and the {@link Arguments#terminationCondition()}
+     *         is not met
      *         <ol>
      *             <li>Breed children from a selection of the population</li>
      *             <li>Mutate the children that were bred</li>
-     *             <li>Add the children to the population</li>
-     *             <li>Kill a selection of the population</li>
+     *             <li>Score the children and add them to the population, unless they are duplicates that
+     *             the {@link Arguments#duplicatePolicy()} rejects</li>
+     *             <li>Kill a selection of the population, sparing the {@link Arguments#eliteSize()} best
+     *             organisms</li>
      *         </ol>
      *         <li>Find the best organism and return the solution</li>
      *     </ol>
+     * <p>
+     *     The elite is kept in a small heap that is updated as children are scored, so the best organism
+     *     is known without scanning the final population. Without an elite, the best organism of the final
+     *     population is picked by {@link Optimizer#bestIndex(ScoredPopulation)} of the provider. Either way,
+     *     the best fitness of the {@link Solution} is the fitness that was stored for that organism, as a
+     *     {@link Double}, so the organism is not scored again.
+     * </p>
      *
      * @param <O> Type of the organism
      */
     class Default<O> implements GeneticAlgorithm<O> {
 
+        private final GenerationListener listener;
+        private final Checkpointer<O> checkpointer;
+
+        /**
+         * Creates a default genetic algorithm without measurements
+         */
+        public Default() {
+            this(GenerationListener.NONE);
+        }
+
+        /**
+         * Creates a default genetic algorithm that reports measurements to the given listener.
+         * The listener is told how long every phase takes and how much it allocates, how many
+         * fitness evaluations were done, and how the fitness of the population evolves.
+         *
+         * @param listener Listener to report measurements to
+         */
+        public Default(GenerationListener listener) {
+            this(listener, null);
+        }
+
+        /**
+         * Creates a default genetic algorithm that reports measurements to the given listener, and
+         * writes a checkpoint every {@link Checkpointer#getInterval()} generations. The run can be
+         * continued from the last checkpoint with {@link #resume(Arguments, Provider, Checkpoint)}.
+         *
+         * @param listener Listener to report measurements to
+         * @param checkpointer Checkpointer to write checkpoints with, or {@code null} to not write them
+         */
+        public Default(GenerationListener listener, Checkpointer<O> checkpointer) {
+            this.listener = listener;
+            this.checkpointer = checkpointer;
+        }
+
         /**
          * {@inheritDoc}
          * <p>
@@ -53,30 +128,518 @@ public interface GeneticAlgorithm<O> {
          */
         @Override
         public Solution<O> run(Arguments arguments, Provider<?, O> provider) {
-            int iterations = 0;
-            Population<O> population = provider.creator().create(arguments);
+            return run(arguments, provider, provider.batchFitter());
+        }
 
-            while (iterations < arguments.numIterations()) {
-                Collection<O> parents = provider.selector().select(arguments, population, arguments.goal());
-                Collection<O> children = provider.breeder().breed(arguments, population, parents);
-                children = provider.mutator().mutate(arguments, children);
+        /**
+         * Runs the algorithm, scoring organisms with the given batch fitter
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param fitter Batch fitter to score organisms with
+         * @return Solution of the run
+         */
+        Solution<O> run(Arguments arguments, Provider<?, O> provider, BatchFitter<O> fitter) {
+            Meter meter = new Meter(listener, arguments.terminationCondition());
+            listener.onStart(arguments);
+
+            ScoredPopulation<O> population = initialize(arguments, provider, fitter, meter);
+            if (population.size() == 0) {
+                throw new IllegalStateException("Cannot evolve an empty population");
+            }
+            checkpoint(arguments, population, 0, meter);
+            return evolve(arguments, provider, fitter, population, 0, meter);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         *     The population is restored with its fitness values, so it is not scored again. If the
+         *     checkpoint holds the state of the random source, the arguments are given a copy of it, so a
+         *     run that only uses {@link Arguments#random()} continues exactly as it would have. Termination
+         *     conditions start over, except for the number of evaluations.
+         * </p>
+         *
+         * @param arguments {@inheritDoc}
+         * @param provider {@inheritDoc}
+         * @param checkpoint {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public Solution<O> resume(Arguments arguments, Provider<?, O> provider, Checkpoint<O> checkpoint) {
+            return resume(arguments, provider, checkpoint, provider.batchFitter());
+        }
 
-                population.addAll(children);
+        /**
+         * Continues a run from a checkpoint, scoring organisms with the given batch fitter
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param checkpoint Checkpoint to continue from
+         * @param fitter Batch fitter to score organisms with
+         * @return Solution of the run
+         */
+        Solution<O> resume(Arguments arguments, Provider<?, O> provider, Checkpoint<O> checkpoint,
+                           BatchFitter<O> fitter) {
+            Arguments resumed = checkpoint.hasRandom() ? arguments.withRandom(checkpoint.getRandom()) : arguments;
+            Meter meter = new Meter(listener, resumed.terminationCondition(), checkpoint.getEvaluations());
+            listener.onStart(resumed);
 
-                Collection<O> conscripted = provider.selector().select(arguments, population, arguments.goal().opposite());
-                population = provider.killer().kill(arguments, population, conscripted);
+            ScoredPopulation<O> population = checkpoint.toPopulation(provider.fitter());
+            return evolve(resumed, provider, fitter, population, checkpoint.getGeneration(), meter);
+        }
 
+        private Solution<O> evolve(Arguments arguments, Provider<?, O> provider, BatchFitter<O> fitter,
+                                   ScoredPopulation<O> population, int iterations, Meter meter) {
+            Elite<O> elite = Elite.of(arguments, provider.goal(), population);
+            GenomeIndex<O> index = index(arguments, population);
+            while (!meter.isDone() && iterations < arguments.numIterations()) {
+                population = iterate(arguments, provider, fitter, population, iterations + 1, meter, elite, index);
                 iterations++;
+                checkpoint(arguments, population, iterations, meter);
             }
 
-
-            O bestOrganism = population.getAll().stream().max(provider.optimizer()).get();
-            Number bestFitness = provider.fitter().calculate(bestOrganism);
-            return new Solution<>(
+            O bestOrganism;
+            double bestFitness;
+            if (elite.size() > 0) {
+                bestOrganism = elite.best();
+                bestFitness = elite.bestScore();
+            } else {
+                int best = provider.optimizer().bestIndex(population);
+                if (best < 0) {
+                    throw new IllegalStateException("No organisms survived to pick the best one from");
+                }
+                bestOrganism = population.get(best);
+                bestFitness = population.getScore(best);
+            }
+            Solution<O> solution = new Solution<>(
                     bestFitness,
                     bestOrganism,
                     population
             );
+            listener.onFinish(solution);
+            return solution;
+        }
+
+        /**
+         * Creates and scores the initial population
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param meter Meter to report the phases to
+         * @return Initial population
+         */
+        ScoredPopulation<O> initialize(Arguments arguments, Provider<?, O> provider, Meter meter) {
+            return initialize(arguments, provider, provider.batchFitter(), meter);
+        }
+
+        /**
+         * Creates the initial population and scores it with the given batch fitter
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param fitter Batch fitter to score organisms with
+         * @param meter Meter to report the phases to
+         * @return Initial population
+         */
+        ScoredPopulation<O> initialize(Arguments arguments, Provider<?, O> provider, BatchFitter<O> fitter,
+                                       Meter meter) {
+            meter.start();
+            List<O> initial = new ArrayList<>(provider.creator().create(arguments).asList());
+            meter.stop(0, Phase.CREATE);
+
+            meter.start();
+            ScoredPopulation<O> population = new ScoredPopulation<>(provider.fitter());
+            population.addAll(initial, fitter.calculateAll(initial));
+            meter.stop(0, Phase.EVALUATE);
+
+            meter.generation(0, population, provider.goal(), initial.size());
+            return population;
+        }
+
+        /**
+         * Runs a single generation of the algorithm
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param fitter Batch fitter to score the children with
+         * @param population Population at the start of the generation
+         * @param generation Number of the generation, starting at {@code 1}
+         * @param meter Meter to report the phases to
+         * @param elite Elite to update with the children, and to spare when killing
+         * @param index Index of the population to find duplicate children with, or {@code null} to allow them
+         * @return Population at the end of the generation
+         */
+        ScoredPopulation<O> iterate(Arguments arguments, Provider<?, O> provider, BatchFitter<O> fitter,
+                                    ScoredPopulation<O> population, int generation, Meter meter, Elite<O> elite,
+                                    GenomeIndex<O> index) {
+            meter.start();
+            Collection<O> parents = provider.selector().select(arguments, population, arguments.goal());
+            meter.stop(generation, Phase.SELECT);
+
+            meter.start();
+            Collection<O> bred = provider.breeder().breed(arguments, population, parents);
+            meter.stop(generation, Phase.BREED);
+
+            meter.start();
+            List<O> children = new ArrayList<>(provider.mutator().mutate(arguments, bred));
+            meter.stop(generation, Phase.MUTATE);
+
+            meter.start();
+            List<O> unique = index == null ? children : unique(arguments, population, children, index);
+            double[] scores = fitter.calculateAll(unique);
+            population.addAll(unique, scores);
+            elite.offerAll(unique, scores);
+            meter.stop(generation, Phase.EVALUATE);
+
+            meter.start();
+            int[] conscripted = provider.selector().selectIndices(arguments, population, arguments.goal().opposite());
+            conscripted = elite.spare(population, conscripted, arguments.random());
+            if (arguments.duplicatePolicy() == GenomeIndex.Policy.REJECT) {
+                // Spare one organism for every rejected child, so the population keeps its size
+                int rejected = children.size() - unique.size();
+                conscripted = Arrays.copyOf(conscripted, Math.max(0, conscripted.length - rejected));
+            }
+            List<O> victims = index == null ? null : organismsAt(population, conscripted);
+            int survivors = population.size() - conscripted.length;
+            population = scored(provider, provider.killer().kill(arguments, population, conscripted));
+            if (population.size() != survivors) {
+                // The killer removed other organisms than it was asked to, which may include elite organisms
+                elite.restore(population);
+            }
+            if (index != null) {
+                removeKilled(population, victims, survivors, index);
+            }
+            meter.stop(generation, Phase.KILL);
+
+            meter.generation(generation, population, provider.goal(), unique.size(), index);
+            return population;
+        }
+
+        /**
+         * Creates an index of the population if the {@link Arguments#duplicatePolicy()} needs one
+         *
+         * @param arguments Arguments to use for the execution
+         * @param population Population to index
+         * @return Index of the population, or {@code null} if duplicates are allowed
+         */
+        GenomeIndex<O> index(Arguments arguments, ScoredPopulation<O> population) {
+            return arguments.duplicatePolicy() == GenomeIndex.Policy.ALLOW ? null : GenomeIndex.of(population);
+        }
+
+        /**
+         * Finds the children that are not equal to any organism in the population or to an earlier child, and
+         * adds them to the index. Duplicates are dropped, or added to the population with the fitness of its
+         * worst organism if the policy is {@link GenomeIndex.Policy#PENALISE}.
+         */
+        private List<O> unique(Arguments arguments, ScoredPopulation<O> population, List<O> children,
+                               GenomeIndex<O> index) {
+            boolean penalise = arguments.duplicatePolicy() == GenomeIndex.Policy.PENALISE;
+            List<O> unique = new ArrayList<>(children.size());
+            List<O> duplicates = new ArrayList<>();
+            for (O child : children) {
+                if (!index.contains(child)) {
+                    index.add(child);
+                    unique.add(child);
+                } else if (penalise) {
+                    index.add(child);
+                    duplicates.add(child);
+                }
+            }
+
+            if (!duplicates.isEmpty() && population.size() > 0) {
+                double[] penalties = new double[duplicates.size()];
+                Arrays.fill(penalties, population.getScore(population.bestIndex(arguments.goal().opposite())));
+                population.addAll(duplicates, penalties);
+            }
+            return unique;
+        }
+
+        private List<O> organismsAt(Population<O> population, int[] indices) {
+            List<O> organisms = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                organisms.add(population.get(index));
+            }
+            return organisms;
+        }
+
+        /**
+         * Removes the organisms that were killed from the index. A killer that removed more or fewer organisms
+         * than it was asked to, like one that also removes duplicates, leaves the index to be rebuilt.
+         */
+        private void removeKilled(ScoredPopulation<O> population, List<O> victims, int survivors,
+                                  GenomeIndex<O> index) {
+            if (population.size() == survivors) {
+                for (O victim : victims) {
+                    index.remove(victim);
+                }
+            } else {
+                index.clear();
+                index.addAll(population);
+            }
+        }
+
+        private void checkpoint(Arguments arguments, ScoredPopulation<O> population, int generation, Meter meter) {
+            if (checkpointer != null && checkpointer.isDue(generation)) {
+                checkpointer.save(Checkpoint.of(generation, meter.evaluations(), population, arguments.random()));
+            }
+        }
+
+        private ScoredPopulation<O> scored(Provider<?, O> provider, Population<O> population) {
+            if (population instanceof ScoredPopulation) {
+                return (ScoredPopulation<O>) population;
+            }
+            return new ScoredPopulation<>(provider.fitter(), population);
+        }
+
+        /**
+         * Measures the phases of a run, reports them to a listener and checks the termination condition.
+         * Nothing is measured if the listener is {@link GenerationListener#NONE}, and the statistics of a
+         * generation are only calculated if someone needs them.
+         */
+        static final class Meter {
+            private final GenerationListener listener;
+            private final TerminationCondition condition;
+            private final boolean enabled;
+            private final long startNanos;
+            private long evaluations;
+            private boolean done;
+            private long phaseNanos;
+            private long phaseBytes;
+
+            Meter(GenerationListener listener, TerminationCondition condition) {
+                this(listener, condition, 0);
+            }
+
+            Meter(GenerationListener listener, TerminationCondition condition, long evaluations) {
+                this.listener = listener;
+                this.evaluations = evaluations;
+                this.condition = condition;
+                this.enabled = listener != GenerationListener.NONE;
+                this.startNanos = System.nanoTime();
+                condition.reset();
+            }
+
+            void start() {
+                if (enabled) {
+                    phaseBytes = AllocationMeter.allocatedBytes();
+                    phaseNanos = System.nanoTime();
+                }
+            }
+
+            void stop(int generation, Phase phase) {
+                if (enabled) {
+                    long nanos = System.nanoTime() - phaseNanos;
+                    long bytes = phaseBytes < 0 ? -1 : AllocationMeter.allocatedBytes() - phaseBytes;
+                    listener.onPhase(generation, phase, nanos, bytes);
+                }
+            }
+
+            void generation(int generation, ScoredPopulation<?> population, Goal goal, int evaluated) {
+                generation(generation, population, goal, evaluated, null);
+            }
+
+            /**
+             * Counts a generation, and reports its statistics if someone needs them. The ratio of distinct
+             * organisms is read from the index if the run keeps one, and only counted from the population
+             * when the statistics are calculated otherwise.
+             */
+            void generation(int generation, ScoredPopulation<?> population, Goal goal, int evaluated,
+                            GenomeIndex<?> index) {
+                evaluations += evaluated;
+                if (!enabled && condition == TerminationCondition.NEVER) {
+                    return;
+                }
+
+                double distinctRatio = index != null
+                        ? index.distinctRatio()
+                        : GenomeIndex.distinctRatio(population);
+                GenerationStatistics statistics = GenerationStatistics.of(generation, population, goal, evaluated,
+                        evaluations, System.nanoTime() - startNanos).withDistinctRatio(distinctRatio);
+                if (enabled) {
+                    listener.onGeneration(statistics);
+                }
+                done = condition.isMet(statistics);
+            }
+
+            long evaluations() {
+                return evaluations;
+            }
+
+            boolean isDone() {
+                return done;
+            }
+        }
+    }
+
+    /**
+     * Implementation of a genetic algorithm that scores each new generation in parallel.
+     * <p>
+     *     The algorithm is the same as {@link net.caspervg.jgaf.GeneticAlgorithm.Default}, but the
+     *     initial population and the children of every iteration are split into batches that
+     *     are scored on an {@link ExecutorService} before they are added to the population.
+     * </p>
+     * <p>
+     *     If no executor is given, a {@link ForkJoinPool} with {@link Arguments#parallelism()} threads
+     *     is created for every run and shut down afterwards. The executor is handed to every run on its own,
+     *     so one instance can run several times at once.
+     * </p>
+     *
+     * @param <O> Type of the organism
+     */
+    class Parallel<O> extends Default<O> {
+
+        private static final int BATCHES_PER_THREAD = 4;
+
+        private final ExecutorService executor;
+
+        /**
+         * Creates a parallel genetic algorithm that uses its own {@link ForkJoinPool}
+         */
+        public Parallel() {
+            this((ExecutorService) null);
+        }
+
+        /**
+         * Creates a parallel genetic algorithm that uses its own {@link ForkJoinPool}, and reports
+         * measurements to the given listener
+         *
+         * @param listener Listener to report measurements to
+         */
+        public Parallel(GenerationListener listener) {
+            this((ExecutorService) null, listener);
+        }
+
+        /**
+         * Creates a parallel genetic algorithm that scores organisms on the given executor.
+         * The executor will not be shut down by the algorithm.
+         *
+         * @param executor Executor to score organisms on
+         */
+        public Parallel(ExecutorService executor) {
+            this(executor, GenerationListener.NONE);
+        }
+
+        /**
+         * Creates a parallel genetic algorithm that scores organisms on the given executor, and reports
+         * measurements to the given listener. The executor will not be shut down by the algorithm.
+         *
+         * @param executor Executor to score organisms on
+         * @param listener Listener to report measurements to
+         */
+        public Parallel(ExecutorService executor, GenerationListener listener) {
+            this(executor, listener, null);
+        }
+
+        /**
+         * Creates a parallel genetic algorithm that scores organisms on the given executor, reports
+         * measurements to the given listener and writes checkpoints with the given checkpointer.
+         * The executor will not be shut down by the algorithm.
+         *
+         * @param executor Executor to score organisms on, or {@code null} to use a new {@link ForkJoinPool}
+         *                 for every run
+         * @param listener Listener to report measurements to
+         * @param checkpointer Checkpointer to write checkpoints with, or {@code null} to not write them
+         */
+        public Parallel(ExecutorService executor, GenerationListener listener, Checkpointer<O> checkpointer) {
+            super(listener, checkpointer);
+            this.executor = executor;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param arguments {@inheritDoc}
+         * @param provider {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public Solution<O> run(Arguments arguments, Provider<?, O> provider) {
+            return withExecutor(arguments, pool -> run(arguments, provider, parallel(arguments, provider, pool)));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param arguments {@inheritDoc}
+         * @param provider {@inheritDoc}
+         * @param checkpoint {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public Solution<O> resume(Arguments arguments, Provider<?, O> provider, Checkpoint<O> checkpoint) {
+            return withExecutor(arguments,
+                    pool -> resume(arguments, provider, checkpoint, parallel(arguments, provider, pool)));
+        }
+
+        private Solution<O> withExecutor(Arguments arguments, Function<ExecutorService, Solution<O>> run) {
+            if (executor != null) {
+                return run.apply(executor);
+            }
+
+            ExecutorService pool = new ForkJoinPool(arguments.parallelism());
+            try {
+                return run.apply(pool);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        /**
+         * Creates a batch fitter that splits the organisms in batches, passes every batch to the batch
+         * fitter of the provider on the executor, and waits until all of them are done
+         *
+         * @param arguments Arguments to use for the execution
+         * @param provider Strategy providers for the various steps
+         * @param pool Executor to score the batches on
+         * @return Batch fitter for a single run
+         */
+        private BatchFitter<O> parallel(Arguments arguments, Provider<?, O> provider, ExecutorService pool) {
+            BatchFitter<O> fitter = provider.batchFitter();
+            int batches = Math.max(1, arguments.parallelism() * BATCHES_PER_THREAD);
+
+            return (organisms, from, to, fitnesses, offset) -> {
+                int batchSize = Math.max(1, (to - from + batches - 1) / batches);
+
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (int start = from; start < to; start += batchSize) {
+                    int first = start;
+                    int last = Math.min(start + batchSize, to);
+                    tasks.add(() -> {
+                        fitter.calculateAll(organisms, first, last, fitnesses, offset + first - from);
+                        return null;
+                    });
+                }
+
+                invokeAll(pool, tasks);
+            };
+        }
+
+        /**
+         * Runs all tasks on the executor and waits until they are done. The first failure is rethrown
+         * as is if it is unchecked, or wrapped in an {@link IllegalStateException} otherwise.
+         *
+         * @param executor Executor to run the tasks on
+         * @param tasks Tasks to run
+         */
+        static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks) {
+            try {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for tasks", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Could not complete task", cause);
+            }
         }
     }
 }
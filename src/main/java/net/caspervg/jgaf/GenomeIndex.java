@@ -0,0 +1,224 @@
+package net.caspervg.jgaf;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Index of the organisms of a population by their {@link Object#hashCode()} and {@link Object#equals(Object)},
+ * which finds exact duplicates in O(1)
+ * <p>
+ *     The index counts how many times every distinct organism occurs, so it can be kept next to a population
+ *     that contains duplicates, and updated as organisms are added and removed. The genomes in
+ *     {@code net.caspervg.jgaf.genome} implement both methods, so they can be indexed as they are.
+ * </p>
+ * <p>
+ *     The index also gives a cheap measure of diversity: the {@link #distinctRatio() ratio} of distinct
+ *     organisms. For a measure that also sees how far apart the organisms are, see
+ *     {@link #meanDistance(Population, ToDoubleBiFunction, int, RandomSource)}.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class GenomeIndex<O> {
+
+    /**
+     * Decides what happens to a child that is equal to an organism that is already in the population
+     */
+    public enum Policy {
+        /**
+         * Duplicates are scored and added like any other child
+         */
+        ALLOW,
+        /**
+         * Duplicates are not scored and not added to the population, and one organism fewer is killed for
+         * every duplicate, so the population keeps its size
+         */
+        REJECT,
+        /**
+         * Duplicates are not scored, but added to the population with a fitness as bad as that of the worst
+         * organism, so they are the first in line to be killed. Use a killer that removes organisms by index,
+         * like {@link net.caspervg.jgaf.step.killer.IndexKiller}, since a killer that removes organisms by
+         * equality kills the original with the duplicate.
+         */
+        PENALISE
+    }
+
+    private final Map<O, Integer> counts = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates a new, empty index
+     */
+    public GenomeIndex() {
+    }
+
+    /**
+     * Creates a new index of all organisms of a population
+     *
+     * @param population Population to index
+     * @param <O> Type of the organism
+     * @return New index
+     */
+    public static <O> GenomeIndex<O> of(Population<O> population) {
+        GenomeIndex<O> index = new GenomeIndex<>();
+        index.addAll(population);
+        return index;
+    }
+
+    /**
+     * Adds an organism to the index
+     *
+     * @param organism Organism to add
+     * @return {@code true} if no equal organism was in the index yet
+     */
+    public boolean add(O organism) {
+        size++;
+        return counts.merge(organism, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * Adds all organisms of a population to the index
+     *
+     * @param population Population to add
+     */
+    public void addAll(Population<O> population) {
+        for (int i = 0; i < population.size(); i++) {
+            add(population.get(i));
+        }
+    }
+
+    /**
+     * Removes a single occurrence of an organism from the index
+     *
+     * @param organism Organism to remove
+     * @return {@code true} if an equal organism was in the index
+     */
+    public boolean remove(O organism) {
+        Integer count = counts.get(organism);
+        if (count == null) {
+            return false;
+        }
+
+        if (count == 1) {
+            counts.remove(organism);
+        } else {
+            counts.put(organism, count - 1);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all organisms from the index
+     */
+    public void clear() {
+        counts.clear();
+        size = 0;
+    }
+
+    /**
+     * Checks whether an organism that is equal to the given one is in the index
+     *
+     * @param organism Organism to look up
+     * @return {@code true} if an equal organism is in the index
+     */
+    public boolean contains(O organism) {
+        return counts.containsKey(organism);
+    }
+
+    /**
+     * Counts the organisms in the index that are equal to the given one
+     *
+     * @param organism Organism to look up
+     * @return Number of equal organisms
+     */
+    public int count(O organism) {
+        return counts.getOrDefault(organism, 0);
+    }
+
+    /**
+     * Returns the number of organisms in the index, duplicates included
+     *
+     * @return Number of organisms
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct organisms in the index
+     *
+     * @return Number of distinct organisms
+     */
+    public int distinct() {
+        return counts.size();
+    }
+
+    /**
+     * Returns the fraction of the organisms that are distinct: {@code 1} if there are no duplicates at all,
+     * and close to {@code 0} if the population consists of copies of a few organisms
+     *
+     * @return Ratio of distinct organisms, or {@link Double#NaN} if the index is empty
+     */
+    public double distinctRatio() {
+        return size == 0 ? Double.NaN : (double) counts.size() / size;
+    }
+
+    /**
+     * Counts the fraction of the organisms of a population that are distinct, without keeping an index.
+     * This hashes every organism, so it takes O(n) time.
+     *
+     * @param population Population to measure
+     * @return Ratio of distinct organisms, or {@link Double#NaN} if the population is empty
+     */
+    public static double distinctRatio(Population<?> population) {
+        int size = population.size();
+        if (size == 0) {
+            return Double.NaN;
+        }
+
+        Set<Object> distinct = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            distinct.add(population.get(i));
+        }
+        return (double) distinct.size() / size;
+    }
+
+    /**
+     * Estimates the mean distance between two organisms of a population, from a sample of random pairs.
+     * This takes {@code samples} calls to the distance function, however large the population is.
+     *
+     * @param population Population to measure
+     * @param distance Distance between two organisms, for example
+     *                 {@link net.caspervg.jgaf.genome.bit.BitGenome#hammingDistance(net.caspervg.jgaf.genome.bit.BitGenome)}
+     * @param samples Number of pairs to sample
+     * @param random Source of random numbers
+     * @param <O> Type of the organism
+     * @return Mean distance of the sampled pairs, or {@link Double#NaN} if there are fewer than two organisms
+     */
+    public static <O> double meanDistance(Population<O> population, ToDoubleBiFunction<? super O, ? super O> distance,
+                                          int samples, RandomSource random) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("Need at least one sample");
+        }
+
+        int size = population.size();
+        if (size < 2) {
+            return Double.NaN;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < samples; i++) {
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;    // Two different organisms, without retrying
+            }
+            sum += distance.applyAsDouble(population.get(first), population.get(second));
+        }
+        return sum / samples;
+    }
+}
@@ -22,6 +22,19 @@ public interface Goal {
      */
     <F extends Comparable<? super F>> int compare(final F a, final F b);
 
+    /**
+     * Compares two primitive fitness values under the goal, without boxing them.
+     * By default, this boxes the values and calls {@link #compare(Comparable, Comparable)}.
+     *
+     * @param a First value to compare
+     * @param b Second value to compare
+     * @return a negative integer, zero, or a positive integer if the first argument (a) is worse, equal to, or better than
+     * the second argument (b) under the current goal.
+     */
+    default int compare(final double a, final double b) {
+        return compare(Double.valueOf(a), Double.valueOf(b));
+    }
+
     /**
      * Returns the worst of the two parameters under the goal
      *
@@ -59,6 +72,17 @@ public interface Goal {
         return compare(a, b) > 0;
     }
 
+    /**
+     * Checks if the first primitive value is strictly better than the second under the current goal
+     *
+     * @param a First value to compare
+     * @param b Second value to compare
+     * @return {@code true} if {@code a} is strictly better than {@code b} under the current goal
+     */
+    default boolean better(final double a, final double b) {
+        return compare(a, b) > 0;
+    }
+
     /**
      * Checks if the first argument is better than (or equal to) the second argument under
      * the current goal
@@ -85,6 +109,17 @@ public interface Goal {
         return compare(a, b) < 0;
     }
 
+    /**
+     * Checks if the first primitive value is strictly worse than the second under the current goal
+     *
+     * @param a First value to compare
+     * @param b Second value to compare
+     * @return {@code true} if {@code a} is strictly worse than {@code b} under the current goal
+     */
+    default boolean worse(final double a, final double b) {
+        return compare(a, b) < 0;
+    }
+
     /**
      * Checks if the first argument is worse than (or equal to) the second argument under
      * the current goal
@@ -116,6 +151,11 @@ public interface Goal {
             return -a.compareTo(b);
         }
 
+        @Override
+        public int compare(double a, double b) {
+            return Double.compare(b, a);
+        }
+
         @Override
         public Goal opposite() {
             return opposite;
@@ -134,6 +174,11 @@ public interface Goal {
             return a.compareTo(b);
         }
 
+        @Override
+        public int compare(double a, double b) {
+            return Double.compare(a, b);
+        }
+
         @Override
         public Goal opposite() {
             return opposite;
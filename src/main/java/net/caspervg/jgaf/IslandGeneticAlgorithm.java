@@ -0,0 +1,404 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.metrics.GenerationListener;
+import net.caspervg.jgaf.metrics.GenerationStatistics;
+import net.caspervg.jgaf.step.BatchFitter;
+import net.caspervg.jgaf.step.Provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of a genetic algorithm that evolves several populations, or islands, side by side.
+ * <p>
+ *     Every island is a population of {@link Arguments#populationSize()} organisms that is evolved with
+ *     the same steps as {@link net.caspervg.jgaf.GeneticAlgorithm.Default}, on its own thread and with
+ *     its own stream of random numbers. Every {@code migrationInterval} generations, all islands wait for
+ *     each other and send their best organisms to their neighbours in the {@link Topology}, where they
+ *     replace the worst organisms. Every island spares its own elite of {@link Arguments#eliteSize()}
+ *     organisms when it is killed.
+ * </p>
+ * <p>
+ *     Migrants are not copied: the same instance ends up in the population of several islands. Organisms
+ *     must therefore never be changed in place once they are in a population. A
+ *     {@link net.caspervg.jgaf.step.MutableMutator} may only mutate the fresh children of a crosser, not
+ *     a parent that the crosser hands back as it is.
+ * </p>
+ * <p>
+ *     All islands use the same {@link Provider}, so its steps are called from several threads at once and
+ *     must be thread-safe. The built-in steps only hold their configuration and take their random numbers
+ *     from the arguments, and a {@link net.caspervg.jgaf.step.fitter.CachingFitter} locks its cache, so
+ *     they can be shared. A fitter cache is then shared by all islands as well.
+ * </p>
+ * <p>
+ *     The {@link Arguments#terminationCondition()} and the {@link GenerationListener} are only consulted
+ *     between migrations, with the statistics of all islands combined. Phases are not reported to the
+ *     listener, because they run on several threads at once.
+ * </p>
+ * <p>
+ *     If no executor is given, a {@link ForkJoinPool} with at most {@link Arguments#parallelism()}
+ *     threads is created for every run and shut down afterwards.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class IslandGeneticAlgorithm<O> implements GeneticAlgorithm<O> {
+
+    /**
+     * Decides which islands receive the migrants of an island
+     */
+    public enum Topology {
+        /**
+         * Every island sends its migrants to the next island, and the last island to the first one
+         */
+        RING,
+        /**
+         * Every island sends its migrants to all other islands
+         */
+        FULLY_CONNECTED,
+        /**
+         * Every island sends its migrants to another island, chosen at random at every migration
+         */
+        RANDOM
+    }
+
+    private final int islands;
+    private final int migrationInterval;
+    private final int migrants;
+    private final Topology topology;
+    private final ExecutorService executor;
+    private final GenerationListener listener;
+    private final GeneticAlgorithm.Default<O> engine = new GeneticAlgorithm.Default<>();
+
+    /**
+     * Creates a new island model that uses its own {@link ForkJoinPool}
+     *
+     * @param islands Number of islands
+     * @param migrationInterval Number of generations between migrations
+     * @param migrants Number of organisms every island sends to each of its neighbours
+     * @param topology Topology that decides the neighbours of an island
+     */
+    public IslandGeneticAlgorithm(int islands, int migrationInterval, int migrants, Topology topology) {
+        this(islands, migrationInterval, migrants, topology, null, GenerationListener.NONE);
+    }
+
+    /**
+     * Creates a new island model
+     *
+     * @param islands Number of islands
+     * @param migrationInterval Number of generations between migrations
+     * @param migrants Number of organisms every island sends to each of its neighbours
+     * @param topology Topology that decides the neighbours of an island
+     * @param executor Executor to evolve the islands on, or {@code null} to use a new {@link ForkJoinPool}
+     *                 for every run. The executor will not be shut down by the algorithm.
+     * @param listener Listener to report measurements to
+     */
+    public IslandGeneticAlgorithm(int islands, int migrationInterval, int migrants, Topology topology,
+                                  ExecutorService executor, GenerationListener listener) {
+        if (islands < 1) {
+            throw new IllegalArgumentException("Need at least one island");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval should be at least 1");
+        }
+        if (migrants < 0) {
+            throw new IllegalArgumentException("Number of migrants should not be negative");
+        }
+
+        this.islands = islands;
+        this.migrationInterval = migrationInterval;
+        this.migrants = migrants;
+        this.topology = topology;
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Runs the island model. The final population of the solution contains the organisms of all
+     *     islands.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param provider {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Solution<O> run(Arguments arguments, Provider<?, O> provider) {
+        listener.onStart(arguments);
+        TerminationCondition condition = arguments.terminationCondition();
+        condition.reset();
+        boolean measured = listener != GenerationListener.NONE || condition != TerminationCondition.NEVER;
+        long startNanos = System.nanoTime();
+
+        RandomSource random = arguments.random();
+        List<Island<O>> world = new ArrayList<>(islands);
+        for (int i = 0; i < islands; i++) {
+            world.add(new Island<>(arguments.withRandom(random.split())));
+        }
+        RandomSource migrationRandom = random.split();
+        BatchFitter<O> fitter = provider.batchFitter();
+
+        ExecutorService pool = executor != null
+                ? executor
+                : new ForkJoinPool(Math.max(1, Math.min(islands, arguments.parallelism())));
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(islands);
+            for (Island<O> island : world) {
+                tasks.add(() -> {
+                    island.population = engine.initialize(island.arguments, provider, fitter, island.meter);
+                    island.elite = Elite.of(island.arguments, provider.goal(), island.population);
+                    island.index = engine.index(island.arguments, island.population);
+                    return null;
+                });
+            }
+            GeneticAlgorithm.Parallel.invokeAll(pool, tasks);
+
+            int generation = 0;
+            boolean done = measured && report(world, provider.goal(), 0, condition, startNanos);
+            while (!done && generation < arguments.numIterations()) {
+                int from = generation + 1;
+                int to = Math.min(generation + migrationInterval, arguments.numIterations());
+
+                tasks.clear();
+                for (Island<O> island : world) {
+                    tasks.add(() -> {
+                        for (int g = from; g <= to; g++) {
+                            island.population = engine.iterate(island.arguments, provider, fitter,
+                                    island.population, g, island.meter, island.elite, island.index);
+                        }
+                        return null;
+                    });
+                }
+                GeneticAlgorithm.Parallel.invokeAll(pool, tasks);
+                generation = to;
+
+                if (generation < arguments.numIterations()) {
+                    migrate(world, provider.goal(), migrationRandom);
+                }
+                done = measured && report(world, provider.goal(), generation, condition, startNanos);
+            }
+        } finally {
+            if (executor == null) {
+                pool.shutdown();
+            }
+        }
+
+        ScoredPopulation<O> population = new ScoredPopulation<>(provider.fitter());
+        for (Island<O> island : world) {
+            population.addAll(island.population.asList(), island.population.getScores());
+        }
+
+        int best = provider.optimizer().bestIndex(population);
+        if (best < 0) {
+            throw new IllegalStateException("No organisms survived to pick the best one from");
+        }
+        O bestOrganism = population.get(best);
+        double bestFitness = population.getScore(best);
+        Solution<O> solution = new Solution<>(
+                bestFitness,
+                bestOrganism,
+                population
+        );
+        listener.onFinish(solution);
+        return solution;
+    }
+
+    private boolean report(List<Island<O>> world, Goal goal, int generation, TerminationCondition condition,
+                           long startNanos) {
+        List<GenerationStatistics> parts = new ArrayList<>(world.size());
+        for (Island<O> island : world) {
+            long total = island.meter.evaluations();
+            parts.add(GenerationStatistics.of(generation, island.population, goal, total - island.reported, total, 0)
+                    .withDistinctRatio(island.index != null
+                            ? island.index.distinctRatio()
+                            : GenomeIndex.distinctRatio(island.population)));
+            island.reported = total;
+        }
+
+        GenerationStatistics statistics = GenerationStatistics.combine(generation, goal, parts,
+                System.nanoTime() - startNanos);
+        listener.onGeneration(statistics);
+        return condition.isMet(statistics);
+    }
+
+    private void migrate(List<Island<O>> world, Goal goal, RandomSource random) {
+        int size = world.size();
+        if (size < 2 || migrants == 0) {
+            return;
+        }
+
+        // Pick all emigrants before anyone receives immigrants, so the order of the islands does not matter
+        List<List<O>> organisms = new ArrayList<>(size);
+        List<double[]> scores = new ArrayList<>(size);
+        for (Island<O> island : world) {
+            int[] best = ranked(island.population, goal, migrants);
+            List<O> emigrants = new ArrayList<>(best.length);
+            double[] emigrantScores = new double[best.length];
+            for (int i = 0; i < best.length; i++) {
+                emigrants.add(island.population.get(best[i]));
+                emigrantScores[i] = island.population.getScore(best[i]);
+            }
+            organisms.add(emigrants);
+            scores.add(emigrantScores);
+        }
+
+        List<List<Integer>> sources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sources.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (int target : neighbours(i, size, random)) {
+                sources.get(target).add(i);
+            }
+        }
+
+        for (int target = 0; target < size; target++) {
+            List<O> immigrants = new ArrayList<>();
+            double[] immigrantScores = new double[0];
+            for (int source : sources.get(target)) {
+                double[] incoming = scores.get(source);
+                immigrantScores = Arrays.copyOf(immigrantScores, immigrantScores.length + incoming.length);
+                System.arraycopy(incoming, 0, immigrantScores, immigrants.size(), incoming.length);
+                immigrants.addAll(organisms.get(source));
+            }
+
+            Island<O> island = world.get(target);
+            int count = Math.min(immigrants.size(), island.population.size());
+            List<O> arrivals = immigrants.subList(0, count);
+            double[] arrivalScores = Arrays.copyOf(immigrantScores, count);
+            int[] departed = ranked(island.population, goal.opposite(), count);
+            if (island.index != null) {
+                for (int index : departed) {
+                    island.index.remove(island.population.get(index));
+                }
+                for (O arrival : arrivals) {
+                    island.index.add(arrival);
+                }
+            }
+            island.population.remove(departed);
+            island.population.addAll(arrivals, arrivalScores);
+            island.elite.offerAll(arrivals, arrivalScores);
+        }
+    }
+
+    private int[] neighbours(int island, int size, RandomSource random) {
+        switch (topology) {
+            case RING:
+                return new int[]{(island + 1) % size};
+            case FULLY_CONNECTED:
+                int[] all = new int[size - 1];
+                for (int i = 0, j = 0; i < size; i++) {
+                    if (i != island) {
+                        all[j++] = i;
+                    }
+                }
+                return all;
+            case RANDOM:
+                int other = random.nextInt(size - 1);
+                return new int[]{other >= island ? other + 1 : other};
+            default:
+                throw new IllegalStateException("Unknown topology " + topology);
+        }
+    }
+
+    /**
+     * Finds the indices of the best organisms in a population. Keeps a bounded heap of {@code count} indices
+     * with the worst of them at the root, so only the selected indices are ever ordered. Among organisms with
+     * an equal fitness, the one with the lowest index ranks best.
+     *
+     * @param population Population to search
+     * @param goal Goal that decides which fitness is best
+     * @param count Number of indices to return
+     * @return Indices of the best organisms, best first
+     */
+    private static int[] ranked(ScoredPopulation<?> population, Goal goal, int count) {
+        double[] scores = population.getScores();
+        int size = Math.max(0, Math.min(count, scores.length));
+        int[] heap = new int[size];
+        if (size == 0) {
+            return heap;
+        }
+
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+            siftUp(heap, i, scores, goal);
+        }
+        for (int i = size; i < scores.length; i++) {
+            if (worse(heap[0], i, scores, goal)) {
+                heap[0] = i;
+                siftDown(heap, size, scores, goal);
+            }
+        }
+
+        // Take the worst index off the heap until it is empty, filling the result from the back
+        int[] ranked = new int[size];
+        for (int end = size - 1; end >= 0; end--) {
+            ranked[end] = heap[0];
+            heap[0] = heap[end];
+            siftDown(heap, end, scores, goal);
+        }
+        return ranked;
+    }
+
+    private static boolean worse(int a, int b, double[] scores, Goal goal) {
+        int comparison = goal.compare(scores[a], scores[b]);
+        return comparison < 0 || (comparison == 0 && a > b);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] scores, Goal goal) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!worse(heap[position], heap[parent], scores, goal)) {
+                return;
+            }
+            swap(heap, position, parent);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores, Goal goal) {
+        int position = 0;
+        while (true) {
+            int worst = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && worse(heap[left], heap[worst], scores, goal)) {
+                worst = left;
+            }
+            if (right < size && worse(heap[right], heap[worst], scores, goal)) {
+                worst = right;
+            }
+            if (worst == position) {
+                return;
+            }
+            swap(heap, position, worst);
+            position = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private static final class Island<O> {
+        private final Arguments arguments;
+        private final GeneticAlgorithm.Default.Meter meter;
+        private ScoredPopulation<O> population;
+        private Elite<O> elite;
+        private GenomeIndex<O> index;
+        private long reported;
+
+        Island(Arguments arguments) {
+            this.arguments = arguments;
+            this.meter = new GeneticAlgorithm.Default.Meter(GenerationListener.NONE, TerminationCondition.NEVER);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package net.caspervg.jgaf;
 
 import net.caspervg.jgaf.step.Fitter;
+import net.caspervg.jgaf.step.fitter.BasicIntFitter;
+import net.caspervg.jgaf.step.fitter.CachingFitter;
+import net.caspervg.jgaf.step.fitter.DoubleFitter;
 
 import java.util.Comparator;
 
@@ -8,6 +11,7 @@ public class Optimizer<F extends Number & Comparable, O> implements Comparator<O
 
     private Fitter<F, O> fitter;
     private Goal goal;
+    private boolean primitive;
 
     private Optimizer() {
         // We need a fitter and a goal
@@ -16,13 +20,49 @@ public class Optimizer<F extends Number & Comparable, O> implements Comparator<O
     public Optimizer(Fitter<F, O> fitter, Goal goal) {
         this.fitter = fitter;
         this.goal = goal;
+        this.primitive = isPrimitive(fitter);
     }
 
+    private static boolean isPrimitive(Fitter<?, ?> fitter) {
+        if (fitter instanceof CachingFitter) {
+            return isPrimitive(((CachingFitter<?, ?>) fitter).getFitter());
+        }
+        return fitter instanceof DoubleFitter || fitter instanceof BasicIntFitter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     If the fitter is a {@link DoubleFitter} or a {@link BasicIntFitter}, or a {@link CachingFitter}
+     *     around one, the fitness values are compared as primitives, without boxing them.
+     * </p>
+     *
+     * @param org1 {@inheritDoc}
+     * @param org2 {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public int compare(final O org1, final O org2) {
+        if (primitive) {
+            return goal.compare(fitter.calculateDouble(org1), fitter.calculateDouble(org2));
+        }
+
         F fitness1 = fitter.calculate(org1);
         F fitness2 = fitter.calculate(org2);
         return goal.compare(fitness1, fitness2);
     }
 
+    /**
+     * Finds the best organism of a scored population. The algorithms use this to pick the best organism
+     * of a run. This implementation compares the fitness values that are kept in the population with the
+     * goal of this optimizer, so no organism is scored again. An optimizer that compares organisms in
+     * another way should override it as well.
+     *
+     * @param population Population to search
+     * @return Index of the best organism, or {@code -1} if the population is empty
+     */
+    public int bestIndex(ScoredPopulation<? extends O> population) {
+        return population.bestIndex(goal);
+    }
+
 }
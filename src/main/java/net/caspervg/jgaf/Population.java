@@ -1,9 +1,17 @@
 package net.caspervg.jgaf;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
 
 /**
  * Provides a semantic representation of a {@link Collection} of organisms
@@ -33,10 +41,32 @@ public interface Population<O> extends Iterable<O> {
      */
     Collection<O> getAll();
 
+    /**
+     * Returns a read-only view of the population. The view is not a copy: it reflects later changes
+     * to the population. Use {@link #getAll()} if a snapshot is needed.
+     * <p>
+     *     By default, the view is backed by {@link #get(int)} and {@link #size()}.
+     * </p>
+     *
+     * @return Unmodifiable view of the population
+     */
+    default List<O> asList() {
+        return new View<>(this);
+    }
+
+    /**
+     * Returns a sequential stream over the organisms, without copying the population
+     *
+     * @return Stream of the organisms in the population
+     */
+    default Stream<O> stream() {
+        return asList().stream();
+    }
+
     /**
      * {@inheritDoc}
      *
-     * Returns an iterator for the backing collection
+     * Returns a read-only iterator for the backing collection
      *
      * @return Iterator of the backing collection
      */
@@ -58,6 +88,46 @@ public interface Population<O> extends Iterable<O> {
      */
     int size();
 
+    /**
+     * Removes the organisms at the specified indices from the population, in place.
+     * The relative order of the remaining organisms is kept. Indices that appear more than once
+     * are only removed once.
+     *
+     * @param indices Indices of the organisms to remove
+     * @throws UnsupportedOperationException if the implementation does not support removal by index
+     * @throws IndexOutOfBoundsException if one of the indices is out of range
+     */
+    default void remove(int... indices) {
+        throw new UnsupportedOperationException("This population does not support removal by index");
+    }
+
+    /**
+     * Finds the indices of the given organisms in the population. Organisms are matched by identity
+     * ({@code ==}), and every index is used at most once, so an organism that is passed twice needs
+     * to be present twice.
+     *
+     * @param organisms Organisms to look up
+     * @return Indices of the organisms, in the same order
+     * @throws IllegalArgumentException if one of the organisms is not in the population
+     */
+    default int[] indicesOf(Collection<? extends O> organisms) {
+        Map<O, Deque<Integer>> positions = new IdentityHashMap<>();
+        for (int i = 0; i < size(); i++) {
+            positions.computeIfAbsent(get(i), o -> new ArrayDeque<>()).add(i);
+        }
+
+        int[] indices = new int[organisms.size()];
+        int i = 0;
+        for (O organism : organisms) {
+            Deque<Integer> candidates = positions.get(organism);
+            if (candidates == null || candidates.isEmpty()) {
+                throw new IllegalArgumentException("Organism is not part of the population: " + organism);
+            }
+            indices[i++] = candidates.poll();
+        }
+        return indices;
+    }
+
     /**
      * Default implementation of a {@link Population} using a List as backing data structure
      *
@@ -91,7 +161,7 @@ public interface Population<O> extends Iterable<O> {
          * @param population Population to copy
          */
         public Default(Population<O> population) {
-            this(population.getAll());
+            this(population.asList());
         }
 
         @Override
@@ -109,9 +179,14 @@ public interface Population<O> extends Iterable<O> {
             return new ArrayList<>(members);
         }
 
+        @Override
+        public List<O> asList() {
+            return Collections.unmodifiableList(members);
+        }
+
         @Override
         public Iterator<O> iterator() {
-            return getAll().iterator();
+            return asList().iterator();
         }
 
         @Override
@@ -123,5 +198,61 @@ public interface Population<O> extends Iterable<O> {
         public int size() {
             return members.size();
         }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         *     This implementation marks the indices and compacts the backing list in a single pass.
+         * </p>
+         *
+         * @param indices {@inheritDoc}
+         */
+        @Override
+        public void remove(int... indices) {
+            boolean[] removed = new boolean[members.size()];
+            for (int index : indices) {
+                if (index < 0 || index >= removed.length) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + removed.length);
+                }
+                removed[index] = true;
+            }
+
+            int kept = 0;
+            for (int i = 0; i < removed.length; i++) {
+                if (!removed[i]) {
+                    members.set(kept++, members.get(i));
+                }
+            }
+            members.subList(kept, removed.length).clear();
+        }
+    }
+
+    /**
+     * Read-only {@link List} view of a population, backed by {@link Population#get(int)}
+     *
+     * @param <O> Type of the organism
+     */
+    class View<O> extends AbstractList<O> implements RandomAccess {
+
+        private final Population<O> population;
+
+        /**
+         * Creates a new view of the given population
+         *
+         * @param population Population to view
+         */
+        public View(Population<O> population) {
+            this.population = population;
+        }
+
+        @Override
+        public O get(int index) {
+            return population.get(index);
+        }
+
+        @Override
+        public int size() {
+            return population.size();
+        }
     }
 }
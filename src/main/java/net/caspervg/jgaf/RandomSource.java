@@ -0,0 +1,253 @@
+package net.caspervg.jgaf;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Provides random numbers to the steps of a genetic algorithm
+ * <p>
+ *     A random source is handed to the steps through {@link Arguments#random()}. Implementations are
+ *     not required to be thread-safe: a step that hands work to other threads should give each of
+ *     them its own stream with {@link #split()}.
+ * </p>
+ */
+public interface RandomSource {
+
+    /**
+     * Returns a uniformly distributed value between {@code 0} (inclusive) and {@code bound} (exclusive)
+     *
+     * @param bound Upper bound (exclusive), should be positive
+     * @return Random integer
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a uniformly distributed {@code long} value
+     *
+     * @return Random long
+     */
+    long nextLong();
+
+    /**
+     * Returns a uniformly distributed value between {@code 0.0} (inclusive) and {@code 1.0} (exclusive)
+     *
+     * @return Random double
+     */
+    double nextDouble();
+
+    /**
+     * Returns a random boolean
+     *
+     * @return Random boolean
+     */
+    default boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns a normally distributed value with mean {@code 0.0} and standard deviation {@code 1.0}.
+     * By default, this uses the polar method.
+     *
+     * @return Random gaussian
+     */
+    default double nextGaussian() {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+
+    /**
+     * Creates a new random source that is statistically independent of this one. Splitting the same
+     * seeded source in the same order always gives the same streams.
+     *
+     * @return New, independent, random source
+     */
+    RandomSource split();
+
+    /**
+     * Random source backed by {@link ThreadLocalRandom}. Every thread has its own generator, so it can
+     * be shared between threads without contention, but it cannot be seeded.
+     */
+    class PerThread implements RandomSource {
+
+        private static final PerThread INSTANCE = new PerThread();
+
+        /**
+         * Returns the shared instance
+         *
+         * @return Random source backed by {@link ThreadLocalRandom}
+         */
+        public static PerThread instance() {
+            return INSTANCE;
+        }
+
+        private PerThread() {
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return ThreadLocalRandom.current().nextBoolean();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return ThreadLocalRandom.current().nextGaussian();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         *     Every thread already has its own generator, so this returns the same instance.
+         * </p>
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public RandomSource split() {
+            return this;
+        }
+    }
+
+    /**
+     * Seedable random source using the SplitMix64 algorithm, the same algorithm as
+     * {@link java.util.SplittableRandom}. It is not thread-safe: use {@link #split()} to give every
+     * thread its own stream.
+     */
+    class Splittable implements RandomSource {
+
+        private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+        private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+        private long seed;
+        private final long gamma;
+
+        /**
+         * Creates a new random source with a seed based on the current time
+         */
+        public Splittable() {
+            this(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+        }
+
+        /**
+         * Creates a new random source with the given seed
+         *
+         * @param seed Initial seed
+         */
+        public Splittable(long seed) {
+            this(seed, GOLDEN_GAMMA);
+        }
+
+        private Splittable(long seed, long gamma) {
+            this.seed = seed;
+            this.gamma = gamma;
+        }
+
+        /**
+         * Restores a random source from its state, as returned by {@link #getSeed()} and {@link #getGamma()}.
+         * The restored source returns the same numbers as the original one from the moment the state was read.
+         *
+         * @param seed Current seed
+         * @param gamma Increment of the seed, should be odd
+         * @return Restored random source
+         */
+        public static Splittable restore(long seed, long gamma) {
+            if ((gamma & 1) == 0) {
+                throw new IllegalArgumentException("Gamma should be odd");
+            }
+            return new Splittable(seed, gamma);
+        }
+
+        /**
+         * Returns the current seed of this random source
+         *
+         * @return Current seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Returns the increment of the seed of this random source
+         *
+         * @return Increment of the seed
+         */
+        public long getGamma() {
+            return gamma;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            if (bound <= 0) {
+                throw new IllegalArgumentException("Bound should be positive");
+            }
+
+            int r = mix32(nextSeed());
+            int m = bound - 1;
+            if ((bound & m) == 0) {
+                return r & m;
+            }
+            // Reject values that would make the result biased
+            for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            }
+            return r;
+        }
+
+        @Override
+        public long nextLong() {
+            return mix64(nextSeed());
+        }
+
+        @Override
+        public double nextDouble() {
+            return (mix64(nextSeed()) >>> 11) * DOUBLE_UNIT;
+        }
+
+        @Override
+        public Splittable split() {
+            return new Splittable(nextLong(), mixGamma(nextSeed()));
+        }
+
+        private long nextSeed() {
+            return seed += gamma;
+        }
+
+        private static long mix64(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+
+        private static int mix32(long z) {
+            z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+            return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+        }
+
+        private static long mixGamma(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            z = (z ^ (z >>> 33)) | 1L;
+            int n = Long.bitCount(z ^ (z >>> 1));
+            return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.step.BatchFitter;
+import net.caspervg.jgaf.step.Fitter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Population} that stores the fitness of every organism next to it.
+ * <p>
+ *     The fitness values are kept in a primitive array that runs parallel to the members, so
+ *     steps can read them with {@link #getScore(int)} without calling the {@link Fitter} again.
+ *     Organisms that are added without a score are scored once, on insertion.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class ScoredPopulation<O> implements Population<O> {
+
+    private final Fitter<?, O> fitter;
+    private final List<O> members;
+    private double[] scores;
+
+    /**
+     * Creates a new, empty, scored population
+     *
+     * @param fitter Fitter to score organisms that are added without a score
+     */
+    public ScoredPopulation(Fitter<?, O> fitter) {
+        this.fitter = fitter;
+        this.members = new ArrayList<>();
+        this.scores = new double[16];
+    }
+
+    /**
+     * Creates a new scored population with a starting collection of organisms.
+     * Every organism is scored once.
+     *
+     * @param fitter Fitter to score organisms that are added without a score
+     * @param os Organisms to use in the new population
+     */
+    public ScoredPopulation(Fitter<?, O> fitter, Collection<? extends O> os) {
+        this(fitter);
+        addAll(os);
+    }
+
+    /**
+     * Copy constructor for a population. If the population to copy is a {@link ScoredPopulation}
+     * itself, its scores are copied as well. Otherwise, every organism is scored once.
+     *
+     * @param fitter Fitter to score organisms that are added without a score
+     * @param population Population to copy
+     */
+    public ScoredPopulation(Fitter<?, O> fitter, Population<O> population) {
+        this.fitter = fitter;
+        if (population instanceof ScoredPopulation) {
+            ScoredPopulation<O> scored = (ScoredPopulation<O>) population;
+            this.members = new ArrayList<>(scored.members);
+            this.scores = Arrays.copyOf(scored.scores, Math.max(16, scored.size()));
+        } else {
+            this.members = new ArrayList<>();
+            this.scores = new double[16];
+            addAll(population.asList());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The organism is scored using the fitter of this population.
+     * </p>
+     *
+     * @param o {@inheritDoc}
+     */
+    @Override
+    public void add(O o) {
+        add(o, fitter.calculateDouble(o));
+    }
+
+    /**
+     * Adds an organism with a known score to the population
+     *
+     * @param o Organism to add
+     * @param score Fitness of the organism
+     */
+    public void add(O o, double score) {
+        ensureCapacity(members.size() + 1);
+        scores[members.size()] = score;
+        members.add(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The organisms are scored together using {@link BatchFitter#of(Fitter)} for the fitter of
+     *     this population.
+     * </p>
+     *
+     * @param os {@inheritDoc}
+     */
+    @Override
+    public void addAll(Collection<? extends O> os) {
+        List<? extends O> list = os instanceof List ? (List<? extends O>) os : new ArrayList<>(os);
+        addAll(list, BatchFitter.of(fitter).calculateAll(list));
+    }
+
+    /**
+     * Adds a list of organisms with known scores to the population
+     *
+     * @param os Organisms to add
+     * @param scores Fitness of the organisms, in the same order
+     */
+    public void addAll(List<? extends O> os, double[] scores) {
+        if (os.size() != scores.length) {
+            throw new IllegalArgumentException("Need exactly one score for every organism");
+        }
+
+        ensureCapacity(members.size() + os.size());
+        System.arraycopy(scores, 0, this.scores, members.size(), scores.length);
+        members.addAll(os);
+    }
+
+    @Override
+    public Collection<O> getAll() {
+        return new ArrayList<>(members);
+    }
+
+    @Override
+    public List<O> asList() {
+        return Collections.unmodifiableList(members);
+    }
+
+    @Override
+    public Iterator<O> iterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public O get(int index) {
+        return members.get(index);
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation marks the indices and compacts the members and their scores
+     *     in a single pass.
+     * </p>
+     *
+     * @param indices {@inheritDoc}
+     */
+    @Override
+    public void remove(int... indices) {
+        boolean[] removed = new boolean[members.size()];
+        for (int index : indices) {
+            if (index < 0 || index >= removed.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + removed.length);
+            }
+            removed[index] = true;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < removed.length; i++) {
+            if (!removed[i]) {
+                members.set(kept, members.get(i));
+                scores[kept] = scores[i];
+                kept++;
+            }
+        }
+        members.subList(kept, removed.length).clear();
+    }
+
+    /**
+     * Replaces the organism at the specified index with another organism with a known score
+     *
+     * @param index Index of the organism to replace
+     * @param o Organism to put in its place
+     * @param score Fitness of the new organism
+     * @return The organism that was replaced
+     */
+    public O set(int index, O o, double score) {
+        O previous = members.set(index, o);
+        scores[index] = score;
+        return previous;
+    }
+
+    /**
+     * Returns the fitness of the organism at the specified index
+     *
+     * @param index Index to retrieve the fitness from
+     * @return The fitness of the organism at the specified index
+     */
+    public double getScore(int index) {
+        if (index < 0 || index >= members.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + members.size());
+        }
+        return scores[index];
+    }
+
+    /**
+     * Returns a copy of the fitness values, in the same order as the members
+     *
+     * @return Copy of the fitness values
+     */
+    public double[] getScores() {
+        return Arrays.copyOf(scores, members.size());
+    }
+
+    /**
+     * Finds the index of the best organism under the given goal
+     *
+     * @param goal Goal to compare fitness values with
+     * @return Index of the best organism, or {@code -1} if the population is empty
+     */
+    public int bestIndex(Goal goal) {
+        int best = -1;
+        for (int i = 0; i < members.size(); i++) {
+            if (best < 0 || goal.better(scores[i], scores[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the fitter that is used to score organisms that are added without a score
+     *
+     * @return Fitter of this population
+     */
+    public Fitter<?, O> getFitter() {
+        return fitter;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(capacity, scores.length + (scores.length >> 1)));
+        }
+    }
+}
@@ -24,7 +24,8 @@ public class Solution<O> {
     }
 
     /**
-     * Returns the best fitness that was found
+     * Returns the best fitness that was found. The algorithms in this library return the fitness they
+     * stored for the best organism, which is a {@link Double} whatever the type of fitness of the fitter.
      *
      * @return Best fitness
      */
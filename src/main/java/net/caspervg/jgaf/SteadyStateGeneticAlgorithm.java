@@ -0,0 +1,298 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.metrics.GenerationListener;
+import net.caspervg.jgaf.step.Crosser;
+import net.caspervg.jgaf.step.Fitter;
+import net.caspervg.jgaf.step.Mutator;
+import net.caspervg.jgaf.step.Provider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a steady-state genetic algorithm, which replaces a few organisms at a time.
+ * <p>
+ *     The algorithm used is:
+ *     <ol>
+ *         <li>Create an initial population</li>
+ *         <li>While there are still iterations to go, and the {@link Arguments#terminationCondition()}
+ *         is not met
+ *         <ol>
+ *             <li>Pick two parents, each the winner of a small tournament</li>
+ *             <li>Cross them with the {@link Provider#crosser()} and mutate the children</li>
+ *             <li>Let every child replace the worst organism of the population, unless it is
+ *             even worse</li>
+ *             <li>Repeat until as many children have been scored as there are organisms</li>
+ *         </ol>
+ *         <li>Return the best organism</li>
+ *     </ol>
+ * <p>
+ *     The worst organism is kept at the top of an indexed heap, and the best one is tracked as children
+ *     come in, so a step takes O(log n) time and never scans the population. The {@link Provider#selector()},
+ *     {@link Provider#breeder()} and {@link Provider#killer()} are not used, but the provider needs a
+ *     {@link Provider#crosser()}.
+ * </p>
+ * <p>
+ *     Generations are only used to count iterations: the {@link GenerationListener} and the termination
+ *     condition are consulted after every {@link Arguments#populationSize()} children. Phases of
+ *     generations after the initial one are not reported, because a single step is too small to time.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class SteadyStateGeneticAlgorithm<O> implements GeneticAlgorithm<O> {
+
+    private final int tournamentSize;
+    private final GenerationListener listener;
+    private final GeneticAlgorithm.Default<O> engine;
+
+    /**
+     * Creates a steady-state genetic algorithm that picks parents with tournaments of two organisms
+     */
+    public SteadyStateGeneticAlgorithm() {
+        this(2);
+    }
+
+    /**
+     * Creates a steady-state genetic algorithm
+     *
+     * @param tournamentSize Number of participants in the tournament for a parent
+     */
+    public SteadyStateGeneticAlgorithm(int tournamentSize) {
+        this(tournamentSize, GenerationListener.NONE);
+    }
+
+    /**
+     * Creates a steady-state genetic algorithm that reports measurements to the given listener
+     *
+     * @param tournamentSize Number of participants in the tournament for a parent
+     * @param listener Listener to report measurements to
+     */
+    public SteadyStateGeneticAlgorithm(int tournamentSize, GenerationListener listener) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size should be at least 1");
+        }
+
+        this.tournamentSize = tournamentSize;
+        this.listener = listener;
+        this.engine = new GeneticAlgorithm.Default<>(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Runs the steady-state genetic algorithm. See {@link SteadyStateGeneticAlgorithm} for the
+     *     algorithm used.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param provider {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Solution<O> run(Arguments arguments, Provider<?, O> provider) {
+        GeneticAlgorithm.Default.Meter meter = new GeneticAlgorithm.Default.Meter(listener,
+                arguments.terminationCondition());
+        listener.onStart(arguments);
+
+        ScoredPopulation<O> population = engine.initialize(arguments, provider, meter);
+        if (population.size() == 0) {
+            throw new IllegalStateException("Cannot evolve an empty population");
+        }
+
+        State<O> state = new State<>(arguments, provider, population, tournamentSize);
+        evolve(state, meter);
+
+        O bestOrganism = population.get(state.best);
+        double bestFitness = population.getScore(state.best);
+        Solution<O> solution = new Solution<>(
+                bestFitness,
+                bestOrganism,
+                population
+        );
+        listener.onFinish(solution);
+        return solution;
+    }
+
+    /**
+     * Evolves the population until the iterations run out or the termination condition is met
+     *
+     * @param state State of the run
+     * @param meter Meter to report generations to
+     */
+    void evolve(State<O> state, GeneticAlgorithm.Default.Meter meter) {
+        Fitter<?, O> fitter = state.provider.fitter();
+        ScoredPopulation<O> population = state.population;
+
+        int iterations = 0;
+        while (!meter.isDone() && iterations < state.arguments.numIterations()) {
+            int evaluated = 0;
+            while (evaluated < population.size()) {
+                for (O child : state.breed()) {
+                    state.offer(child, fitter.calculateDouble(child));
+                    evaluated++;
+                }
+            }
+
+            iterations++;
+            meter.generation(iterations, population, state.goal, evaluated);
+        }
+    }
+
+    /**
+     * State of a single run: the population, the heap of its worst organisms and the index of the best one.
+     * Only the thread that runs the algorithm should use it.
+     *
+     * @param <O> Type of the organism
+     */
+    static final class State<O> {
+        final Arguments arguments;
+        final Provider<?, O> provider;
+        final ScoredPopulation<O> population;
+        final Goal goal;
+        private final int tournamentSize;
+        private final Crosser<O> crosser;
+        private final Mutator<O> mutator;
+        private final RandomSource random;
+        private final WorstHeap heap;
+        private final List<O> parents = new ArrayList<>(2);
+        private int best;
+
+        State(Arguments arguments, Provider<?, O> provider, ScoredPopulation<O> population, int tournamentSize) {
+            this.arguments = arguments;
+            this.provider = provider;
+            this.population = population;
+            this.goal = arguments.goal();
+            this.tournamentSize = tournamentSize;
+            this.crosser = provider.crosser();
+            this.mutator = provider.mutator();
+            this.random = arguments.random();
+            this.heap = new WorstHeap(population, goal);
+            this.best = population.bestIndex(goal);
+        }
+
+        /**
+         * Picks two parents with tournaments, crosses them and mutates the children
+         *
+         * @return Mutated children
+         */
+        List<O> breed() {
+            parents.clear();
+            parents.add(population.get(tournament()));
+            parents.add(population.get(tournament()));
+
+            List<O> children = crosser.cross(arguments, parents);
+            List<O> mutated = new ArrayList<>(children.size());
+            for (O child : children) {
+                mutated.add(mutator.mutate(arguments, child));
+            }
+            return mutated;
+        }
+
+        /**
+         * Lets a child replace the worst organism of the population, unless it is even worse
+         *
+         * @param child Child to add
+         * @param score Fitness of the child
+         */
+        void offer(O child, double score) {
+            int worst = heap.peek();
+            if (goal.worse(score, population.getScore(worst))) {
+                return;
+            }
+
+            population.set(worst, child, score);
+            heap.replaced(worst);
+            // If the worst organism was also the best one, all organisms were equal and the child is the best
+            if (worst == best || goal.better(score, population.getScore(best))) {
+                best = worst;
+            }
+        }
+
+        private int tournament() {
+            int winner = random.nextInt(population.size());
+            for (int i = 1; i < tournamentSize; i++) {
+                int participant = random.nextInt(population.size());
+                if (goal.better(population.getScore(participant), population.getScore(winner))) {
+                    winner = participant;
+                }
+            }
+            return winner;
+        }
+    }
+
+    /**
+     * Binary heap of the indices of a population, with the worst organism at the top. The position of
+     * every index in the heap is remembered, so the score of any organism can be changed in O(log n).
+     */
+    private static final class WorstHeap {
+        private final ScoredPopulation<?> population;
+        private final Goal goal;
+        private final int[] heap;
+        private final int[] positions;
+
+        WorstHeap(ScoredPopulation<?> population, Goal goal) {
+            this.population = population;
+            this.goal = goal;
+            this.heap = new int[population.size()];
+            this.positions = new int[population.size()];
+
+            for (int i = 0; i < heap.length; i++) {
+                heap[i] = i;
+                positions[i] = i;
+            }
+            for (int i = heap.length / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        int peek() {
+            return heap[0];
+        }
+
+        void replaced(int index) {
+            int position = positions[index];
+            siftDown(position);
+            siftUp(positions[index]);
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int left = 2 * position + 1;
+                if (left >= heap.length) {
+                    return;
+                }
+                int right = left + 1;
+                int worse = right < heap.length && above(heap[right], heap[left]) ? right : left;
+                if (!above(heap[worse], heap[position])) {
+                    return;
+                }
+                swap(position, worse);
+                position = worse;
+            }
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (!above(heap[position], heap[parent])) {
+                    return;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private boolean above(int first, int second) {
+            return goal.worse(population.getScore(first), population.getScore(second));
+        }
+
+        private void swap(int first, int second) {
+            int index = heap[first];
+            heap[first] = heap[second];
+            heap[second] = index;
+            positions[heap[first]] = first;
+            positions[heap[second]] = second;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.metrics.GenerationStatistics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a genetic algorithm can stop before {@link Arguments#numIterations()} is reached
+ * <p>
+ *     A condition is checked at the end of every generation, including the initial population, with
+ *     the statistics of the population at that time. The statistics are calculated once per generation
+ *     and shared by all conditions, so checking a condition should not need another pass over the
+ *     population. {@link Arguments#numIterations()} always remains the upper bound.
+ * </p>
+ * <p>
+ *     Conditions that keep state between generations reset it in {@link #reset()}, which is called at
+ *     the start of every run. Such a condition should not be shared by runs that happen at the same time.
+ * </p>
+ */
+@FunctionalInterface
+public interface TerminationCondition {
+
+    /**
+     * Condition that is never met, so the algorithm always runs all iterations
+     */
+    TerminationCondition NEVER = statistics -> false;
+
+    /**
+     * Checks whether the algorithm can stop after the given generation
+     *
+     * @param statistics Statistics of the population at the end of the generation
+     * @return {@code true} if the algorithm should stop
+     */
+    boolean isMet(GenerationStatistics statistics);
+
+    /**
+     * Forgets everything that was remembered from a previous run. Does nothing by default.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Creates a condition that is met as soon as any of the given conditions is met.
+     * All of the conditions are checked every generation, so each of them can keep its state up to date.
+     *
+     * @param conditions Conditions to combine
+     * @return Combined condition
+     */
+    static TerminationCondition anyOf(TerminationCondition... conditions) {
+        return new AnyOf(conditions);
+    }
+
+    /**
+     * Condition that is met when the best fitness in the population is at least as good as a target
+     */
+    class TargetFitness implements TerminationCondition {
+
+        private final Goal goal;
+        private final double target;
+
+        /**
+         * Creates a new target fitness condition
+         *
+         * @param goal Goal that decides which fitness is better
+         * @param target Fitness to reach
+         */
+        public TargetFitness(Goal goal, double target) {
+            this.goal = goal;
+            this.target = target;
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            return statistics.getPopulationSize() > 0 && !goal.worse(statistics.getBestFitness(), target);
+        }
+    }
+
+    /**
+     * Condition that is met when the best fitness has not improved for a number of generations
+     */
+    class Stagnation implements TerminationCondition {
+
+        private final Goal goal;
+        private final int generations;
+        private final double tolerance;
+
+        private boolean started;
+        private double best;
+        private int lastImprovement;
+
+        /**
+         * Creates a new stagnation condition, in which every improvement counts
+         *
+         * @param goal Goal that decides which fitness is better
+         * @param generations Number of generations without improvement before the condition is met
+         */
+        public Stagnation(Goal goal, int generations) {
+            this(goal, generations, 0);
+        }
+
+        /**
+         * Creates a new stagnation condition
+         *
+         * @param goal Goal that decides which fitness is better
+         * @param generations Number of generations without improvement before the condition is met
+         * @param tolerance Amount the best fitness has to improve by (strictly more than) to count as an improvement
+         */
+        public Stagnation(Goal goal, int generations, double tolerance) {
+            if (generations < 1) {
+                throw new IllegalArgumentException("Number of generations should be at least 1");
+            }
+            if (tolerance < 0) {
+                throw new IllegalArgumentException("Tolerance should not be negative");
+            }
+
+            this.goal = goal;
+            this.generations = generations;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            double current = statistics.getBestFitness();
+            if (!started || (goal.better(current, best) && Math.abs(current - best) > tolerance)) {
+                started = true;
+                best = current;
+                lastImprovement = statistics.getGeneration();
+                return false;
+            }
+
+            return statistics.getGeneration() - lastImprovement >= generations;
+        }
+
+        @Override
+        public void reset() {
+            started = false;
+        }
+    }
+
+    /**
+     * Condition that is met when the run has taken longer than a wall-clock budget
+     */
+    class WallClock implements TerminationCondition {
+
+        private final long budgetNanos;
+
+        /**
+         * Creates a new wall-clock condition
+         *
+         * @param budget Time the run may take
+         * @param unit Unit of the budget
+         */
+        public WallClock(long budget, TimeUnit unit) {
+            if (budget < 0) {
+                throw new IllegalArgumentException("Budget should not be negative");
+            }
+
+            this.budgetNanos = unit.toNanos(budget);
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            return statistics.getElapsedNanos() >= budgetNanos;
+        }
+    }
+
+    /**
+     * Condition that is met when the run has calculated the fitness of a number of organisms
+     */
+    class EvaluationBudget implements TerminationCondition {
+
+        private final long budget;
+
+        /**
+         * Creates a new evaluation budget condition
+         *
+         * @param budget Number of fitness evaluations the run may do
+         */
+        public EvaluationBudget(long budget) {
+            if (budget < 0) {
+                throw new IllegalArgumentException("Budget should not be negative");
+            }
+
+            this.budget = budget;
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            return statistics.getTotalEvaluations() >= budget;
+        }
+    }
+
+    /**
+     * Condition that is met when the diversity of the population has collapsed, measured as the
+     * standard deviation of the fitness values in the population
+     */
+    class DiversityCollapse implements TerminationCondition {
+
+        private final double minimumStandardDeviation;
+
+        /**
+         * Creates a new diversity collapse condition
+         *
+         * @param minimumStandardDeviation Standard deviation of the fitness values at or below which the
+         *                                 population is considered to have converged
+         */
+        public DiversityCollapse(double minimumStandardDeviation) {
+            if (minimumStandardDeviation < 0) {
+                throw new IllegalArgumentException("Standard deviation should not be negative");
+            }
+
+            this.minimumStandardDeviation = minimumStandardDeviation;
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            return statistics.getPopulationSize() > 1
+                    && statistics.getStandardDeviation() <= minimumStandardDeviation;
+        }
+    }
+
+    /**
+     * Condition that is met as soon as any of its conditions is met
+     */
+    class AnyOf implements TerminationCondition {
+
+        private final TerminationCondition[] conditions;
+
+        /**
+         * Creates a new combined condition
+         *
+         * @param conditions Conditions to combine
+         */
+        public AnyOf(TerminationCondition... conditions) {
+            this.conditions = Arrays.copyOf(conditions, conditions.length);
+        }
+
+        @Override
+        public boolean isMet(GenerationStatistics statistics) {
+            boolean met = false;
+            for (TerminationCondition condition : conditions) {
+                met |= condition.isMet(statistics);
+            }
+            return met;
+        }
+
+        @Override
+        public void reset() {
+            for (TerminationCondition condition : conditions) {
+                condition.reset();
+            }
+        }
+    }
+}
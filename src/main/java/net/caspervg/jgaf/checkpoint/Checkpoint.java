@@ -0,0 +1,145 @@
+package net.caspervg.jgaf.checkpoint;
+
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.ScoredPopulation;
+import net.caspervg.jgaf.step.Fitter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of a running genetic algorithm, from which it can be resumed
+ * <p>
+ *     A checkpoint holds the organisms of the population together with their fitness, so they do not
+ *     have to be scored again, the number of the generation and of fitness evaluations so far, and the
+ *     state of the random source if it is a {@link RandomSource.Splittable}. Other random sources
+ *     cannot be captured, so a run that uses them resumes with fresh random numbers.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class Checkpoint<O> {
+
+    private final int generation;
+    private final long evaluations;
+    private final List<O> organisms;
+    private final double[] scores;
+    private final boolean hasRandom;
+    private final long seed;
+    private final long gamma;
+
+    /**
+     * Creates a new checkpoint
+     *
+     * @param generation Number of the last generation that was completed, {@code 0} for the initial population
+     * @param evaluations Number of fitness evaluations since the start of the run
+     * @param organisms Organisms of the population
+     * @param scores Fitness of the organisms, in the same order
+     * @param random Random source of the run, only captured if it is a {@link RandomSource.Splittable}
+     */
+    public Checkpoint(int generation, long evaluations, List<? extends O> organisms, double[] scores,
+                      RandomSource random) {
+        if (organisms.size() != scores.length) {
+            throw new IllegalArgumentException("Need exactly one score for every organism");
+        }
+
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.organisms = new ArrayList<>(organisms);
+        this.scores = Arrays.copyOf(scores, scores.length);
+        this.hasRandom = random instanceof RandomSource.Splittable;
+        this.seed = hasRandom ? ((RandomSource.Splittable) random).getSeed() : 0;
+        this.gamma = hasRandom ? ((RandomSource.Splittable) random).getGamma() : 0;
+    }
+
+    /**
+     * Captures a checkpoint of a population
+     *
+     * @param generation Number of the last generation that was completed, {@code 0} for the initial population
+     * @param evaluations Number of fitness evaluations since the start of the run
+     * @param population Population to capture
+     * @param random Random source of the run, only captured if it is a {@link RandomSource.Splittable}
+     * @param <O> Type of the organism
+     * @return New checkpoint
+     */
+    public static <O> Checkpoint<O> of(int generation, long evaluations, ScoredPopulation<O> population,
+                                       RandomSource random) {
+        return new Checkpoint<>(generation, evaluations, population.asList(), population.getScores(), random);
+    }
+
+    /**
+     * Returns the number of the last generation that was completed, {@code 0} for the initial population
+     *
+     * @return Number of the generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of fitness evaluations since the start of the run
+     *
+     * @return Number of fitness evaluations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the organisms of the population
+     *
+     * @return Unmodifiable list of organisms
+     */
+    public List<O> getOrganisms() {
+        return Collections.unmodifiableList(organisms);
+    }
+
+    /**
+     * Returns a copy of the fitness of the organisms, in the same order
+     *
+     * @return Copy of the fitness values
+     */
+    public double[] getScores() {
+        return Arrays.copyOf(scores, scores.length);
+    }
+
+    /**
+     * Checks whether the state of the random source was captured
+     *
+     * @return {@code true} if {@link #getRandom()} restores the random source
+     */
+    public boolean hasRandom() {
+        return hasRandom;
+    }
+
+    /**
+     * Restores the random source as it was when the checkpoint was taken
+     *
+     * @return New random source with the captured state, or {@code null} if no state was captured
+     */
+    public RandomSource.Splittable getRandom() {
+        return hasRandom ? RandomSource.Splittable.restore(seed, gamma) : null;
+    }
+
+    /**
+     * Restores the population, without scoring the organisms again
+     *
+     * @param fitter Fitter to score organisms that are added to the population later on
+     * @return Restored population
+     */
+    public ScoredPopulation<O> toPopulation(Fitter<?, O> fitter) {
+        ScoredPopulation<O> population = new ScoredPopulation<>(fitter);
+        population.addAll(organisms, scores);
+        return population;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    long getGamma() {
+        return gamma;
+    }
+}
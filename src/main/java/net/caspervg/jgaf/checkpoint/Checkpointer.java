@@ -0,0 +1,244 @@
+package net.caspervg.jgaf.checkpoint;
+
+import net.caspervg.jgaf.RandomSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes {@link Checkpoint}s to a file and reads them back
+ * <p>
+ *     A checkpoint is written as a compact binary file: a header with the generation, the number of
+ *     evaluations and the state of the random source, followed by the fitness values and the organisms,
+ *     each encoded by an {@link OrganismCodec} and prefixed with its length. It is written to a temporary
+ *     file next to the target through a {@link FileChannel}, forced to disk, and then moved over the
+ *     previous checkpoint, so a crash while writing never leaves a broken checkpoint behind. Checkpoints
+ *     are read back through a memory-mapped buffer.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class Checkpointer<O> {
+
+    private static final int MAGIC = 0x4A474146;    // "JGAF"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 1 + 8 + 8 + 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final OrganismCodec<O> codec;
+    private final int interval;
+
+    /**
+     * Creates a new checkpointer
+     *
+     * @param file File to write the checkpoint to
+     * @param codec Codec to encode and decode organisms with
+     * @param interval Number of generations between checkpoints
+     */
+    public Checkpointer(Path file, OrganismCodec<O> codec, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval should be at least 1");
+        }
+
+        this.file = file;
+        this.codec = codec;
+        this.interval = interval;
+    }
+
+    /**
+     * Checks whether a checkpoint should be written after the given generation
+     *
+     * @param generation Number of the generation that was completed
+     * @return {@code true} if a checkpoint is due
+     */
+    public boolean isDue(int generation) {
+        return generation % interval == 0;
+    }
+
+    /**
+     * Checks whether a checkpoint was written before
+     *
+     * @return {@code true} if the checkpoint file exists
+     */
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Writes a checkpoint, replacing the previous one
+     *
+     * @param checkpoint Checkpoint to write
+     * @throws UncheckedIOException if the checkpoint cannot be written
+     */
+    public void save(Checkpoint<O> checkpoint) {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(channel, checkpoint);
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write checkpoint to " + file, e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // The checkpoint itself is fine, only a stray temporary file is left behind
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the last checkpoint that was written
+     *
+     * @return Last checkpoint
+     * @throws UncheckedIOException if the checkpoint cannot be read, or is not a valid checkpoint
+     */
+    public Checkpoint<O> load() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read checkpoint from " + file, e);
+        }
+    }
+
+    /**
+     * Returns the file the checkpoint is written to
+     *
+     * @return Checkpoint file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of generations between checkpoints
+     *
+     * @return Number of generations
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    private void write(FileChannel channel, Checkpoint<O> checkpoint) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        List<O> organisms = checkpoint.getOrganisms();
+        double[] scores = checkpoint.getScores();
+
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(checkpoint.getGeneration())
+                .putLong(checkpoint.getEvaluations())
+                .put((byte) (checkpoint.hasRandom() ? 1 : 0))
+                .putLong(checkpoint.getSeed())
+                .putLong(checkpoint.getGamma())
+                .putInt(organisms.size());
+
+        for (double score : scores) {
+            reserve(channel, buffer, Double.BYTES);
+            buffer.putDouble(score);
+        }
+
+        for (O organism : organisms) {
+            byte[] bytes = codec.encode(organism);
+            reserve(channel, buffer, Integer.BYTES);
+            buffer.putInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush(channel, buffer);
+                writeFully(channel, ByteBuffer.wrap(bytes));
+            } else {
+                reserve(channel, buffer, bytes.length);
+                buffer.put(bytes);
+            }
+        }
+
+        flush(channel, buffer);
+    }
+
+    private Checkpoint<O> read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a checkpoint file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version);
+            }
+
+            int generation = buffer.getInt();
+            long evaluations = buffer.getLong();
+            boolean hasRandom = buffer.get() != 0;
+            long seed = buffer.getLong();
+            long gamma = buffer.getLong();
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * Double.BYTES > buffer.remaining()) {
+                throw new IOException("Checkpoint is truncated");
+            }
+
+            double[] scores = new double[count];
+            buffer.asDoubleBuffer().get(scores);
+            // Cast to Buffer, so the class also runs on Java 8, where ByteBuffer does not override these
+            ((Buffer) buffer).position(buffer.position() + count * Double.BYTES);
+
+            List<O> organisms = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IOException("Checkpoint is truncated");
+                }
+                ByteBuffer bytes = buffer.slice();
+                ((Buffer) bytes).limit(length);
+                organisms.add(codec.decode(bytes));
+                ((Buffer) buffer).position(buffer.position() + length);
+            }
+
+            return new Checkpoint<>(generation, evaluations, organisms, scores,
+                    hasRandom ? RandomSource.Splittable.restore(seed, gamma) : null);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Checkpoint is truncated", e);
+        }
+    }
+
+    private static void reserve(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        ((Buffer) buffer).flip();
+        writeFully(channel, buffer);
+        ((Buffer) buffer).clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
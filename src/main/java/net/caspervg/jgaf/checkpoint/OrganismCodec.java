@@ -0,0 +1,47 @@
+package net.caspervg.jgaf.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provides a way to turn organisms into bytes and back, so they can be written to a {@link Checkpoint}
+ *
+ * @param <O> Type of the organism
+ */
+public interface OrganismCodec<O> {
+
+    /**
+     * Encodes an organism
+     *
+     * @param organism Organism to encode
+     * @return Bytes that represent the organism
+     */
+    byte[] encode(O organism);
+
+    /**
+     * Decodes an organism
+     *
+     * @param bytes Buffer that holds exactly the bytes of one organism, between its position and its limit
+     * @return Decoded organism
+     */
+    O decode(ByteBuffer bytes);
+
+    /**
+     * Returns a codec for organisms that are strings, which encodes them as UTF-8
+     *
+     * @return Codec for strings
+     */
+    static OrganismCodec<String> strings() {
+        return new OrganismCodec<String>() {
+            @Override
+            public byte[] encode(String organism) {
+                return organism.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(ByteBuffer bytes) {
+                return StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Crosser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Crosser} for two {@link BitGenome}s of the same length, which creates two children
+ * <p>
+ *     The children are put together a word at a time: every word of a child takes the bits under a mask
+ *     from one parent and the other bits from the other parent, so no bit is copied on its own.
+ * </p>
+ */
+public class BitCrosser implements Crosser<BitGenome> {
+
+    /**
+     * Kind of crossover
+     */
+    public enum Mode {
+        /**
+         * The children swap all bits after a random point
+         */
+        ONE_POINT,
+        /**
+         * The children swap all bits between two random points
+         */
+        TWO_POINT,
+        /**
+         * The children swap every bit with a probability of one half
+         */
+        UNIFORM
+    }
+
+    private Mode mode;
+
+    private BitCrosser() {
+        // We need a mode
+    }
+
+    /**
+     * Creates a new crosser
+     *
+     * @param mode Kind of crossover
+     */
+    public BitCrosser(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public List<BitGenome> cross(List<BitGenome> parents) {
+        return cross(parents, RandomSource.PerThread.instance());
+    }
+
+    @Override
+    public List<BitGenome> cross(Arguments arguments, List<BitGenome> parents) {
+        return cross(parents, arguments.random());
+    }
+
+    private List<BitGenome> cross(List<BitGenome> parents, RandomSource random) {
+        if (parents.size() != 2) {
+            throw new IllegalArgumentException("Need exactly two parents");
+        }
+
+        BitGenome father = parents.get(0);
+        BitGenome mother = parents.get(1);
+        father.checkLength(mother);
+
+        long[] first = father.words().clone();
+        long[] second = mother.words().clone();
+        int length = father.length();
+
+        switch (mode) {
+            case ONE_POINT:
+                swap(first, second, length == 0 ? 0 : random.nextInt(length + 1), length);
+                break;
+            case TWO_POINT:
+                int a = random.nextInt(length + 1);
+                int b = random.nextInt(length + 1);
+                swap(first, second, Math.min(a, b), Math.max(a, b));
+                break;
+            case UNIFORM:
+                for (int i = 0; i < first.length; i++) {
+                    long mask = random.nextLong();
+                    long difference = (first[i] ^ second[i]) & mask;
+                    first[i] ^= difference;
+                    second[i] ^= difference;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown mode " + mode);
+        }
+
+        List<BitGenome> children = new ArrayList<>(2);
+        children.add(new BitGenome(length, first));
+        children.add(new BitGenome(length, second));
+        return children;
+    }
+
+    /**
+     * Swaps the bits in {@code [from, to)} between two packed bit strings
+     */
+    private static void swap(long[] first, long[] second, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        int fromWord = from >>> 6;
+        int toWord = (to - 1) >>> 6;
+        for (int i = fromWord; i <= toWord; i++) {
+            long mask = -1L;
+            if (i == fromWord) {
+                mask &= -1L << from;
+            }
+            if (i == toWord) {
+                mask &= -1L >>> -to;
+            }
+
+            long difference = (first[i] ^ second[i]) & mask;
+            first[i] ^= difference;
+            second[i] ^= difference;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Mutator;
+
+/**
+ * Implementation of a {@link Mutator} that flips every bit of a {@link BitGenome} with the same probability
+ * <p>
+ *     Instead of drawing a random number for every bit, the distance to the next bit to flip is drawn
+ *     from a geometric distribution, so a mutation takes time in the order of the number of flipped bits.
+ *     A genome in which no bit is flipped is returned as is.
+ * </p>
+ */
+public class BitFlipMutator implements Mutator<BitGenome> {
+
+    private final double rate;
+
+    /**
+     * Creates a new mutator that uses {@link Arguments#maximumMutationAmount()} as the probability
+     * to flip a bit
+     */
+    public BitFlipMutator() {
+        this.rate = Double.NaN;
+    }
+
+    /**
+     * Creates a new mutator
+     *
+     * @param rate Probability to flip a bit, between {@code 0.0} and {@code 1.0}
+     */
+    public BitFlipMutator(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Rate should be between 0 and 1");
+        }
+
+        this.rate = rate;
+    }
+
+    @Override
+    public BitGenome mutate(Arguments arguments, BitGenome child) {
+        double p = Double.isNaN(rate) ? arguments.maximumMutationAmount().doubleValue() : rate;
+        if (p <= 0 || child.length() == 0) {
+            return child;
+        }
+
+        long[] words = child.words();
+        if (p >= 1) {
+            long[] flipped = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                flipped[i] = ~words[i];
+            }
+            return new BitGenome(child.length(), flipped);
+        }
+
+        RandomSource random = arguments.random();
+        double logSkip = Math.log1p(-p);
+        long[] mutated = null;
+        long index = skip(random, logSkip);
+        while (index < child.length()) {
+            if (mutated == null) {
+                mutated = words.clone();
+            }
+            mutated[(int) (index >>> 6)] ^= 1L << index;
+            index += 1 + skip(random, logSkip);
+        }
+
+        return mutated == null ? child : new BitGenome(child.length(), mutated);
+    }
+
+    private static long skip(RandomSource random, double logSkip) {
+        // Number of bits that are not flipped before the next one that is, P(k) = (1 - p)^k * p
+        return (long) (Math.log(1 - random.nextDouble()) / logSkip);
+    }
+}
@@ -0,0 +1,186 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Organism that is a fixed-length string of bits
+ * <p>
+ *     The bits are packed 64 to a {@code long}, with bit {@code i} stored in word {@code i / 64} at
+ *     position {@code i % 64}. Unused bits in the last word are always zero, so words can be compared
+ *     and counted directly. A genome cannot be changed once it is created: the operators in this
+ *     package create new genomes, which makes it safe to use genomes as keys in sets and caches.
+ * </p>
+ */
+public final class BitGenome {
+
+    private final int length;
+    private final long[] words;
+
+    /**
+     * Creates a new genome in which all bits are zero
+     *
+     * @param length Number of bits
+     */
+    public BitGenome(int length) {
+        this(length, new long[wordCount(length)]);
+    }
+
+    BitGenome(int length, long[] words) {
+        checkLength(length);
+
+        this.length = length;
+        this.words = words;
+        clearTail();
+    }
+
+    /**
+     * Creates a new genome with uniformly random bits
+     *
+     * @param length Number of bits
+     * @param random Source of random numbers
+     * @return New random genome
+     */
+    public static BitGenome random(int length, RandomSource random) {
+        long[] words = new long[wordCount(length)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextLong();
+        }
+        return new BitGenome(length, words);
+    }
+
+    /**
+     * Creates a new genome from a string of {@code '0'} and {@code '1'} characters
+     *
+     * @param bits String of bits, the first character is bit {@code 0}
+     * @return New genome
+     */
+    public static BitGenome of(String bits) {
+        long[] words = new long[wordCount(bits.length())];
+        for (int i = 0; i < bits.length(); i++) {
+            char c = bits.charAt(i);
+            if (c == '1') {
+                words[i >>> 6] |= 1L << i;
+            } else if (c != '0') {
+                throw new IllegalArgumentException("Not a bit: " + c);
+            }
+        }
+        return new BitGenome(bits.length(), words);
+    }
+
+    /**
+     * Returns the number of bits
+     *
+     * @return Number of bits
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the bit at the given index
+     *
+     * @param index Index of the bit
+     * @return {@code true} if the bit is one
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Counts the bits that are one
+     *
+     * @return Number of ones
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the bits that differ from another genome of the same length
+     *
+     * @param other Genome to compare with
+     * @return Number of different bits
+     */
+    public int hammingDistance(BitGenome other) {
+        checkLength(other);
+
+        int distance = 0;
+        for (int i = 0; i < words.length; i++) {
+            distance += Long.bitCount(words[i] ^ other.words[i]);
+        }
+        return distance;
+    }
+
+    /**
+     * Returns a copy of the words that hold the bits
+     *
+     * @return Copy of the packed bits
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(words, words.length);
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    void checkLength(BitGenome other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Genomes should have the same length");
+        }
+    }
+
+    static int wordCount(int length) {
+        // Checked before the words are allocated, since a large negative length would wrap to a huge count
+        checkLength(length);
+        return (length + Long.SIZE - 1) >>> 6;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length should not be negative");
+        }
+    }
+
+    private void clearTail() {
+        if ((length & 63) != 0) {
+            words[words.length - 1] &= -1L >>> -length;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BitGenome)) {
+            return false;
+        }
+
+        BitGenome other = (BitGenome) o;
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((words[i >>> 6] & (1L << i)) != 0 ? '1' : '0');
+        }
+        return builder.toString();
+    }
+}
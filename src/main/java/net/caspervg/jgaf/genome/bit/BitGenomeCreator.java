@@ -0,0 +1,54 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Creator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Creator} that fills the population with uniformly random {@link BitGenome}s
+ */
+public class BitGenomeCreator implements Creator<BitGenome> {
+
+    private int length;
+
+    private BitGenomeCreator() {
+        // We need a length
+    }
+
+    /**
+     * Creates a new creator for genomes of the given length
+     *
+     * @param length Number of bits in every genome
+     */
+    public BitGenomeCreator(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Length should be at least 1");
+        }
+
+        this.length = length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation creates {@link Arguments#populationSize()} genomes, using
+     *     {@link Arguments#random()} to fill them a word at a time.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Population<BitGenome> create(Arguments arguments) {
+        RandomSource random = arguments.random();
+        List<BitGenome> genomes = new ArrayList<>(arguments.populationSize());
+        for (int i = 0; i < arguments.populationSize(); i++) {
+            genomes.add(BitGenome.random(length, random));
+        }
+        return new Population.Default<>(genomes);
+    }
+}
@@ -0,0 +1,31 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.step.fitter.BasicIntFitter;
+
+/**
+ * Implementation of a fitter that counts the bits a {@link BitGenome} has in common with a target genome.
+ * The count is calculated a word at a time with {@link Long#bitCount(long)}. Use it with
+ * {@link net.caspervg.jgaf.Goal.Maximum}: the target itself has the highest fitness, its length.
+ */
+public class HammingFitter implements BasicIntFitter<BitGenome> {
+
+    private BitGenome target;
+
+    private HammingFitter() {
+        // We need a target
+    }
+
+    /**
+     * Creates a new fitter
+     *
+     * @param target Genome to compare with
+     */
+    public HammingFitter(BitGenome target) {
+        this.target = target;
+    }
+
+    @Override
+    public int applyAsInt(BitGenome organism) {
+        return target.length() - target.hammingDistance(organism);
+    }
+}
@@ -0,0 +1,44 @@
+package net.caspervg.jgaf.genome.permutation;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Creator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Creator} that fills the population with uniformly random {@link PermutationGenome}s
+ */
+public class PermutationCreator implements Creator<PermutationGenome> {
+
+    private int size;
+
+    private PermutationCreator() {
+        // We need a size
+    }
+
+    /**
+     * Creates a new creator for permutations of the given size
+     *
+     * @param size Number of elements in every permutation
+     */
+    public PermutationCreator(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size should be at least 1");
+        }
+
+        this.size = size;
+    }
+
+    @Override
+    public Population<PermutationGenome> create(Arguments arguments) {
+        RandomSource random = arguments.random();
+        List<PermutationGenome> genomes = new ArrayList<>(arguments.populationSize());
+        for (int i = 0; i < arguments.populationSize(); i++) {
+            genomes.add(PermutationGenome.random(size, random));
+        }
+        return new Population.Default<>(genomes);
+    }
+}
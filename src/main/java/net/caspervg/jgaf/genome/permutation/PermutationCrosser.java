@@ -0,0 +1,199 @@
+package net.caspervg.jgaf.genome.permutation;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Crosser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Crosser} for two {@link PermutationGenome}s of the same size, which creates
+ * two children that are permutations as well
+ * <p>
+ *     Every crossover runs in O(n): instead of searching the parents for an element, it looks up the index
+ *     of the element in an array that holds the inverse of a parent. The parents are read directly, so
+ *     the only arrays that are created are the children and these lookup tables.
+ * </p>
+ */
+public class PermutationCrosser implements Crosser<PermutationGenome> {
+
+    /**
+     * Kind of crossover
+     */
+    public enum Mode {
+        /**
+         * Partially mapped crossover (PMX): a child takes a random segment from one parent, and the other
+         * elements from the other parent at the same index where possible, following the mapping defined
+         * by the segment otherwise
+         */
+        PARTIALLY_MAPPED,
+        /**
+         * Order crossover (OX): a child takes a random segment from one parent, and the other elements in
+         * the order in which they appear in the other parent, starting after the segment
+         */
+        ORDER,
+        /**
+         * Cycle crossover (CX): every element keeps the index it has in one of the parents, alternating
+         * between the parents for every cycle of the permutation that maps one parent onto the other
+         */
+        CYCLE
+    }
+
+    private Mode mode;
+
+    private PermutationCrosser() {
+        // We need a mode
+    }
+
+    /**
+     * Creates a new crosser
+     *
+     * @param mode Kind of crossover
+     */
+    public PermutationCrosser(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public List<PermutationGenome> cross(List<PermutationGenome> parents) {
+        return cross(parents, RandomSource.PerThread.instance());
+    }
+
+    @Override
+    public List<PermutationGenome> cross(Arguments arguments, List<PermutationGenome> parents) {
+        return cross(parents, arguments.random());
+    }
+
+    private List<PermutationGenome> cross(List<PermutationGenome> parents, RandomSource random) {
+        if (parents.size() != 2) {
+            throw new IllegalArgumentException("Need exactly two parents");
+        }
+        if (parents.get(0).size() != parents.get(1).size()) {
+            throw new IllegalArgumentException("Genomes should have the same size");
+        }
+
+        int[] father = parents.get(0).elements();
+        int[] mother = parents.get(1).elements();
+        int size = father.length;
+        int[] first;
+        int[] second;
+
+        if (mode == Mode.CYCLE) {
+            first = new int[size];
+            second = new int[size];
+            cycle(father, mother, first, second);
+        } else {
+            int a = size == 0 ? 0 : random.nextInt(size);
+            int b = size == 0 ? 0 : random.nextInt(size);
+            int from = Math.min(a, b);
+            int to = Math.max(a, b) + (size == 0 ? 0 : 1);
+
+            if (mode == Mode.PARTIALLY_MAPPED) {
+                first = partiallyMapped(father, mother, parents.get(1).positions(), from, to);
+                second = partiallyMapped(mother, father, parents.get(0).positions(), from, to);
+            } else if (mode == Mode.ORDER) {
+                first = order(father, mother, from, to);
+                second = order(mother, father, from, to);
+            } else {
+                throw new IllegalStateException("Unknown mode " + mode);
+            }
+        }
+
+        List<PermutationGenome> children = new ArrayList<>(2);
+        children.add(new PermutationGenome(first));
+        children.add(new PermutationGenome(second));
+        return children;
+    }
+
+    /**
+     * Partially mapped crossover, taking the segment {@code [from, to)} from {@code segment}
+     */
+    private static int[] partiallyMapped(int[] segment, int[] other, int[] positionsInOther, int from, int to) {
+        int size = segment.length;
+        int[] child = new int[size];
+        Arrays.fill(child, -1);
+        boolean[] taken = new boolean[size];
+        for (int i = from; i < to; i++) {
+            child[i] = segment[i];
+            taken[segment[i]] = true;
+        }
+
+        // Place every element of the other segment that was displaced. Its path through the segment is
+        // part of a cycle of the mapping, and these cycles do not overlap, so this takes O(n) in total.
+        for (int i = from; i < to; i++) {
+            int element = other[i];
+            if (taken[element]) {
+                continue;
+            }
+
+            int index = i;
+            do {
+                index = positionsInOther[segment[index]];
+            } while (index >= from && index < to);
+            child[index] = element;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (child[i] < 0) {
+                child[i] = other[i];
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Order crossover, taking the segment {@code [from, to)} from {@code segment}
+     */
+    private static int[] order(int[] segment, int[] other, int from, int to) {
+        int size = segment.length;
+        int[] child = new int[size];
+        boolean[] taken = new boolean[size];
+        for (int i = from; i < to; i++) {
+            child[i] = segment[i];
+            taken[segment[i]] = true;
+        }
+
+        // Exactly as many elements are left as there are free indices, so the writes never reach the segment
+        int write = to == size ? 0 : to;
+        int read = write;
+        for (int n = 0; n < size; n++) {
+            int element = other[read];
+            if (!taken[element]) {
+                child[write] = element;
+                write = write + 1 == size ? 0 : write + 1;
+            }
+            read = read + 1 == size ? 0 : read + 1;
+        }
+        return child;
+    }
+
+    /**
+     * Cycle crossover, writing both children at once
+     */
+    private static void cycle(int[] father, int[] mother, int[] first, int[] second) {
+        int size = father.length;
+        int[] positionsInFather = new int[size];
+        for (int i = 0; i < size; i++) {
+            positionsInFather[father[i]] = i;
+        }
+
+        boolean[] visited = new boolean[size];
+        boolean swap = false;
+        for (int start = 0; start < size; start++) {
+            if (visited[start]) {
+                continue;
+            }
+
+            int index = start;
+            do {
+                visited[index] = true;
+                first[index] = swap ? mother[index] : father[index];
+                second[index] = swap ? father[index] : mother[index];
+                index = positionsInFather[mother[index]];
+            } while (index != start);
+            swap = !swap;
+        }
+    }
+}
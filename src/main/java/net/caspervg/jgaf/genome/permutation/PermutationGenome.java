@@ -0,0 +1,138 @@
+package net.caspervg.jgaf.genome.permutation;
+
+import net.caspervg.jgaf.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Organism that is a permutation of the integers {@code 0} to {@code size() - 1}, for example the order
+ * in which to visit cities or run jobs
+ * <p>
+ *     The permutation is kept in a flat {@code int} array. A genome cannot be changed once it is created:
+ *     the operators in this package create new genomes, which makes it safe to use genomes as keys in
+ *     sets and caches.
+ * </p>
+ */
+public final class PermutationGenome {
+
+    private final int[] elements;
+
+    PermutationGenome(int[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Creates a new genome from a copy of the given permutation
+     *
+     * @param elements Permutation of the integers {@code 0} to {@code elements.length - 1}
+     * @return New genome
+     */
+    public static PermutationGenome of(int... elements) {
+        boolean[] seen = new boolean[elements.length];
+        for (int element : elements) {
+            if (element < 0 || element >= elements.length || seen[element]) {
+                throw new IllegalArgumentException("Not a permutation: " + Arrays.toString(elements));
+            }
+            seen[element] = true;
+        }
+        return new PermutationGenome(Arrays.copyOf(elements, elements.length));
+    }
+
+    /**
+     * Creates a new genome in which every element is at its own index
+     *
+     * @param size Number of elements
+     * @return New genome
+     */
+    public static PermutationGenome identity(int size) {
+        int[] elements = new int[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        return new PermutationGenome(elements);
+    }
+
+    /**
+     * Creates a new, uniformly random, genome
+     *
+     * @param size Number of elements
+     * @param random Source of random numbers
+     * @return New genome
+     */
+    public static PermutationGenome random(int size, RandomSource random) {
+        int[] elements = new int[size];
+        for (int i = 0; i < size; i++) {
+            // Inside-out Fisher-Yates shuffle
+            int j = random.nextInt(i + 1);
+            elements[i] = elements[j];
+            elements[j] = i;
+        }
+        return new PermutationGenome(elements);
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return Number of elements
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the element at the given index
+     *
+     * @param index Index of the element
+     * @return Element at the index
+     */
+    public int get(int index) {
+        return elements[index];
+    }
+
+    /**
+     * Returns a copy of the elements
+     *
+     * @return Copy of the permutation
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    int[] elements() {
+        return elements;
+    }
+
+    /**
+     * Builds the inverse of the permutation, so the index of every element can be looked up in O(1)
+     *
+     * @return Array with the index of every element
+     */
+    int[] positions() {
+        int[] positions = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            positions[elements[i]] = i;
+        }
+        return positions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PermutationGenome)) {
+            return false;
+        }
+        return Arrays.equals(elements, ((PermutationGenome) o).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,92 @@
+package net.caspervg.jgaf.genome.permutation;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Mutator;
+
+/**
+ * Implementation of a {@link Mutator} for {@link PermutationGenome}s
+ * <p>
+ *     A genome is mutated with probability {@link Arguments#maximumMutationAmount()}, with a single move
+ *     that keeps it a permutation. A genome that is not mutated is returned as is.
+ * </p>
+ */
+public class PermutationMutator implements Mutator<PermutationGenome> {
+
+    /**
+     * Kind of move
+     */
+    public enum Mode {
+        /**
+         * Swaps two random elements
+         */
+        SWAP,
+        /**
+         * Reverses the order of the elements between two random indices
+         */
+        INVERSION,
+        /**
+         * Shuffles the elements between two random indices
+         */
+        SCRAMBLE
+    }
+
+    private Mode mode;
+
+    private PermutationMutator() {
+        // We need a mode
+    }
+
+    /**
+     * Creates a new mutator
+     *
+     * @param mode Kind of move
+     */
+    public PermutationMutator(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public PermutationGenome mutate(Arguments arguments, PermutationGenome child) {
+        RandomSource random = arguments.random();
+        int size = child.size();
+        if (size < 2 || random.nextDouble() >= arguments.maximumMutationAmount().doubleValue()) {
+            return child;
+        }
+
+        int[] elements = child.toArray();
+        int a = random.nextInt(size);
+        int b = random.nextInt(size - 1);
+        if (b >= a) {
+            b++;
+        }
+        int from = Math.min(a, b);
+        int to = Math.max(a, b);
+
+        switch (mode) {
+            case SWAP:
+                swap(elements, from, to);
+                break;
+            case INVERSION:
+                for (int i = from, j = to; i < j; i++, j--) {
+                    swap(elements, i, j);
+                }
+                break;
+            case SCRAMBLE:
+                for (int i = to; i > from; i--) {
+                    swap(elements, i, from + random.nextInt(i - from + 1));
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown mode " + mode);
+        }
+
+        return new PermutationGenome(elements);
+    }
+
+    private static void swap(int[] elements, int i, int j) {
+        int element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+    }
+}
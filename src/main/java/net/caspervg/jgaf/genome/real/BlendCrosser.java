@@ -0,0 +1,84 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Crosser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Crosser} that applies blend crossover (BLX-alpha) to two
+ * {@link RealVectorGenome}s, which creates two children
+ * <p>
+ *     Every value of a child is drawn uniformly from the interval between the values of its parents,
+ *     extended on both sides by alpha times the distance between them. The random numbers are drawn first,
+ *     and then applied in a single loop over flat arrays, which the JIT can vectorise. Children are clamped
+ *     to their bounds.
+ * </p>
+ */
+public class BlendCrosser implements Crosser<RealVectorGenome> {
+
+    private Bounds bounds;
+    private double alpha;
+
+    private BlendCrosser() {
+        // We need bounds
+    }
+
+    /**
+     * Creates a new crosser
+     *
+     * @param bounds Bounds of the values
+     * @param alpha Amount to extend the interval between the parents by, usually {@code 0.5}
+     */
+    public BlendCrosser(Bounds bounds, double alpha) {
+        if (alpha < 0) {
+            throw new IllegalArgumentException("Alpha should not be negative");
+        }
+
+        this.bounds = bounds;
+        this.alpha = alpha;
+    }
+
+    @Override
+    public List<RealVectorGenome> cross(List<RealVectorGenome> parents) {
+        return cross(parents, RandomSource.PerThread.instance());
+    }
+
+    @Override
+    public List<RealVectorGenome> cross(Arguments arguments, List<RealVectorGenome> parents) {
+        return cross(parents, arguments.random());
+    }
+
+    private List<RealVectorGenome> cross(List<RealVectorGenome> parents, RandomSource random) {
+        if (parents.size() != 2) {
+            throw new IllegalArgumentException("Need exactly two parents");
+        }
+        bounds.check(parents.get(0));
+        bounds.check(parents.get(1));
+
+        double[] father = parents.get(0).values();
+        double[] mother = parents.get(1).values();
+        double[] first = new double[father.length];
+        double[] second = new double[father.length];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = random.nextDouble();
+            second[i] = random.nextDouble();
+        }
+
+        double width = 1 + 2 * alpha;
+        double[] lower = bounds.lower;
+        double[] upper = bounds.upper;
+        for (int i = 0; i < first.length; i++) {
+            double difference = mother[i] - father[i];
+            first[i] = Math.min(Math.max(father[i] + (first[i] * width - alpha) * difference, lower[i]), upper[i]);
+            second[i] = Math.min(Math.max(father[i] + (second[i] * width - alpha) * difference, lower[i]), upper[i]);
+        }
+
+        List<RealVectorGenome> children = new ArrayList<>(2);
+        children.add(new RealVectorGenome(first));
+        children.add(new RealVectorGenome(second));
+        return children;
+    }
+}
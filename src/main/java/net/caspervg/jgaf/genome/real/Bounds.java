@@ -0,0 +1,86 @@
+package net.caspervg.jgaf.genome.real;
+
+import java.util.Arrays;
+
+/**
+ * Lower and upper bound for every value of a {@link RealVectorGenome}
+ */
+public final class Bounds {
+
+    final double[] lower;
+    final double[] upper;
+    final double[] range;
+
+    /**
+     * Creates new bounds
+     *
+     * @param lower Lower bound of every value (inclusive)
+     * @param upper Upper bound of every value (inclusive)
+     */
+    public Bounds(double[] lower, double[] upper) {
+        if (lower.length != upper.length) {
+            throw new IllegalArgumentException("Need exactly one upper bound for every lower bound");
+        }
+
+        this.lower = Arrays.copyOf(lower, lower.length);
+        this.upper = Arrays.copyOf(upper, upper.length);
+        this.range = new double[lower.length];
+        for (int i = 0; i < range.length; i++) {
+            if (!(lower[i] <= upper[i])) {
+                throw new IllegalArgumentException("Lower bound should not be above upper bound at " + i);
+            }
+            range[i] = upper[i] - lower[i];
+        }
+    }
+
+    /**
+     * Creates bounds that are the same for every value
+     *
+     * @param dimension Number of values
+     * @param lower Lower bound of every value (inclusive)
+     * @param upper Upper bound of every value (inclusive)
+     * @return New bounds
+     */
+    public static Bounds uniform(int dimension, double lower, double upper) {
+        double[] lowers = new double[dimension];
+        double[] uppers = new double[dimension];
+        Arrays.fill(lowers, lower);
+        Arrays.fill(uppers, upper);
+        return new Bounds(lowers, uppers);
+    }
+
+    /**
+     * Returns the number of values
+     *
+     * @return Number of values
+     */
+    public int dimension() {
+        return lower.length;
+    }
+
+    /**
+     * Returns the lower bound of a value
+     *
+     * @param index Index of the value
+     * @return Lower bound
+     */
+    public double lower(int index) {
+        return lower[index];
+    }
+
+    /**
+     * Returns the upper bound of a value
+     *
+     * @param index Index of the value
+     * @return Upper bound
+     */
+    public double upper(int index) {
+        return upper[index];
+    }
+
+    void check(RealVectorGenome genome) {
+        if (genome.dimension() != lower.length) {
+            throw new IllegalArgumentException("Genome should have " + lower.length + " values");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.MutableMutator;
+import net.caspervg.jgaf.step.Mutator;
+
+/**
+ * Implementation of a {@link Mutator} that adds normally distributed noise to every value of a
+ * {@link RealVectorGenome}
+ * <p>
+ *     The standard deviation of the noise is {@link Arguments#maximumMutationAmount()} times the range
+ *     of the value, and mutated values are clamped to their bounds. All noise is drawn first, and then
+ *     applied in a single loop over flat arrays, which the JIT can vectorise.
+ * </p>
+ * <p>
+ *     By default, a new genome is created. A mutator that mutates in place changes the genome it is given
+ *     and returns it, which saves an array per mutation. {@link #mutateInPlace(Arguments, RealVectorGenome)}
+ *     always mutates in place. Only use that when the children that are mutated
+ *     are not shared with anything else, as is the case for the children of the crossers in this package.
+ * </p>
+ */
+public class GaussianMutator implements MutableMutator<RealVectorGenome> {
+
+    private final ThreadLocal<double[]> scratch = ThreadLocal.withInitial(() -> new double[0]);
+    private Bounds bounds;
+    private boolean inPlace;
+
+    private GaussianMutator() {
+        // We need bounds
+    }
+
+    /**
+     * Creates a new mutator that creates new genomes
+     *
+     * @param bounds Bounds of the values
+     */
+    public GaussianMutator(Bounds bounds) {
+        this(bounds, false);
+    }
+
+    /**
+     * Creates a new mutator
+     *
+     * @param bounds Bounds of the values
+     * @param inPlace {@code true} to change the genome that is mutated instead of creating a new one
+     */
+    public GaussianMutator(Bounds bounds, boolean inPlace) {
+        this.bounds = bounds;
+        this.inPlace = inPlace;
+    }
+
+    @Override
+    public RealVectorGenome mutate(Arguments arguments, RealVectorGenome child) {
+        return mutate(arguments, child, inPlace);
+    }
+
+    @Override
+    public void mutateInPlace(Arguments arguments, RealVectorGenome child) {
+        mutate(arguments, child, true);
+    }
+
+    private RealVectorGenome mutate(Arguments arguments, RealVectorGenome child, boolean inPlace) {
+        bounds.check(child);
+        double sigma = arguments.maximumMutationAmount().doubleValue();
+        RandomSource random = arguments.random();
+
+        double[] source = child.values();
+        double[] noise = inPlace ? scratch(source.length) : new double[source.length];
+        for (int i = 0; i < source.length; i++) {
+            noise[i] = random.nextGaussian();
+        }
+
+        double[] target = inPlace ? source : noise;
+        double[] lower = bounds.lower;
+        double[] upper = bounds.upper;
+        double[] range = bounds.range;
+        for (int i = 0; i < source.length; i++) {
+            target[i] = Math.min(Math.max(source[i] + sigma * range[i] * noise[i], lower[i]), upper[i]);
+        }
+
+        return inPlace ? child : new RealVectorGenome(target);
+    }
+
+    private double[] scratch(int length) {
+        double[] buffer = scratch.get();
+        if (buffer.length < length) {
+            buffer = new double[length];
+            scratch.set(buffer);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,99 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.MutableMutator;
+import net.caspervg.jgaf.step.Mutator;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of a {@link Mutator} that applies bounded polynomial mutation to a {@link RealVectorGenome}
+ * <p>
+ *     Every value is mutated with probability {@link Arguments#maximumMutationAmount()}. The size of a
+ *     mutation follows a polynomial distribution that never leaves the bounds, and its spread is controlled
+ *     by the distribution index: the higher the index, the closer the mutated value stays to the original.
+ * </p>
+ * <p>
+ *     By default, a new genome is created. A mutator that mutates in place changes the genome it is given
+ *     and returns it. {@link #mutateInPlace(Arguments, RealVectorGenome)} always mutates in place. Only
+ *     use that when the children that are mutated are not shared with anything else.
+ * </p>
+ */
+public class PolynomialMutator implements MutableMutator<RealVectorGenome> {
+
+    private Bounds bounds;
+    private double distributionIndex;
+    private boolean inPlace;
+
+    private PolynomialMutator() {
+        // We need bounds
+    }
+
+    /**
+     * Creates a new mutator that creates new genomes
+     *
+     * @param bounds Bounds of the values
+     * @param distributionIndex Distribution index, usually between {@code 20} and {@code 100}
+     */
+    public PolynomialMutator(Bounds bounds, double distributionIndex) {
+        this(bounds, distributionIndex, false);
+    }
+
+    /**
+     * Creates a new mutator
+     *
+     * @param bounds Bounds of the values
+     * @param distributionIndex Distribution index, usually between {@code 20} and {@code 100}
+     * @param inPlace {@code true} to change the genome that is mutated instead of creating a new one
+     */
+    public PolynomialMutator(Bounds bounds, double distributionIndex, boolean inPlace) {
+        if (distributionIndex < 0) {
+            throw new IllegalArgumentException("Distribution index should not be negative");
+        }
+
+        this.bounds = bounds;
+        this.distributionIndex = distributionIndex;
+        this.inPlace = inPlace;
+    }
+
+    @Override
+    public RealVectorGenome mutate(Arguments arguments, RealVectorGenome child) {
+        return mutate(arguments, child, inPlace);
+    }
+
+    @Override
+    public void mutateInPlace(Arguments arguments, RealVectorGenome child) {
+        mutate(arguments, child, true);
+    }
+
+    private RealVectorGenome mutate(Arguments arguments, RealVectorGenome child, boolean inPlace) {
+        bounds.check(child);
+        double probability = arguments.maximumMutationAmount().doubleValue();
+        RandomSource random = arguments.random();
+        double power = 1 / (distributionIndex + 1);
+
+        double[] values = inPlace ? child.values() : Arrays.copyOf(child.values(), child.dimension());
+        for (int i = 0; i < values.length; i++) {
+            if (bounds.range[i] == 0 || random.nextDouble() >= probability) {
+                continue;
+            }
+
+            double x = values[i];
+            double u = random.nextDouble();
+            double delta;
+            if (u < 0.5) {
+                double xy = 1 - (x - bounds.lower[i]) / bounds.range[i];
+                double value = 2 * u + (1 - 2 * u) * Math.pow(xy, distributionIndex + 1);
+                delta = Math.pow(value, power) - 1;
+            } else {
+                double xy = 1 - (bounds.upper[i] - x) / bounds.range[i];
+                double value = 2 * (1 - u) + 2 * (u - 0.5) * Math.pow(xy, distributionIndex + 1);
+                delta = 1 - Math.pow(value, power);
+            }
+            values[i] = Math.min(Math.max(x + delta * bounds.range[i], bounds.lower[i]), bounds.upper[i]);
+        }
+
+        return inPlace ? child : new RealVectorGenome(values);
+    }
+}
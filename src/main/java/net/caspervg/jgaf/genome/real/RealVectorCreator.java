@@ -0,0 +1,48 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Creator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Creator} that fills the population with {@link RealVectorGenome}s whose values
+ * are uniformly distributed within their bounds
+ */
+public class RealVectorCreator implements Creator<RealVectorGenome> {
+
+    private Bounds bounds;
+
+    private RealVectorCreator() {
+        // We need bounds
+    }
+
+    /**
+     * Creates a new creator
+     *
+     * @param bounds Bounds of the values
+     */
+    public RealVectorCreator(Bounds bounds) {
+        this.bounds = bounds;
+    }
+
+    @Override
+    public Population<RealVectorGenome> create(Arguments arguments) {
+        RandomSource random = arguments.random();
+        List<RealVectorGenome> genomes = new ArrayList<>(arguments.populationSize());
+        for (int n = 0; n < arguments.populationSize(); n++) {
+            double[] values = new double[bounds.dimension()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextDouble();
+            }
+            for (int i = 0; i < values.length; i++) {
+                values[i] = bounds.lower[i] + values[i] * bounds.range[i];
+            }
+            genomes.add(new RealVectorGenome(values));
+        }
+        return new Population.Default<>(genomes);
+    }
+}
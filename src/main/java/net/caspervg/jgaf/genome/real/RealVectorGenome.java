@@ -0,0 +1,83 @@
+package net.caspervg.jgaf.genome.real;
+
+import java.util.Arrays;
+
+/**
+ * Organism that is a fixed-length vector of {@code double} values
+ * <p>
+ *     The values are kept in a flat primitive array, so the operators in this package can work on them
+ *     in simple loops. Genomes are not changed by the operators, except by a mutator that was explicitly
+ *     asked to mutate in place.
+ * </p>
+ */
+public final class RealVectorGenome {
+
+    private final double[] values;
+
+    RealVectorGenome(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a new genome with a copy of the given values
+     *
+     * @param values Values of the genome
+     * @return New genome
+     */
+    public static RealVectorGenome of(double... values) {
+        return new RealVectorGenome(Arrays.copyOf(values, values.length));
+    }
+
+    /**
+     * Returns the number of values
+     *
+     * @return Number of values
+     */
+    public int dimension() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value at the given index
+     *
+     * @param index Index of the value
+     * @return Value at the index
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the values
+     *
+     * @return Copy of the values
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    double[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RealVectorGenome)) {
+            return false;
+        }
+        return Arrays.equals(values, ((RealVectorGenome) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
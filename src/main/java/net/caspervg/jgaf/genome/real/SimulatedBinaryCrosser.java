@@ -0,0 +1,88 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Crosser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of a {@link Crosser} that applies simulated binary crossover (SBX) to two
+ * {@link RealVectorGenome}s, which creates two children
+ * <p>
+ *     The children are spread around their parents with a spread factor that follows a polynomial
+ *     distribution. The higher the distribution index, the closer the children stay to their parents.
+ *     The spread factors are drawn first, and then applied in a single loop over flat arrays, which the
+ *     JIT can vectorise. Children are clamped to their bounds.
+ * </p>
+ */
+public class SimulatedBinaryCrosser implements Crosser<RealVectorGenome> {
+
+    private Bounds bounds;
+    private double distributionIndex;
+
+    private SimulatedBinaryCrosser() {
+        // We need bounds
+    }
+
+    /**
+     * Creates a new crosser
+     *
+     * @param bounds Bounds of the values
+     * @param distributionIndex Distribution index, usually between {@code 2} and {@code 20}
+     */
+    public SimulatedBinaryCrosser(Bounds bounds, double distributionIndex) {
+        if (distributionIndex < 0) {
+            throw new IllegalArgumentException("Distribution index should not be negative");
+        }
+
+        this.bounds = bounds;
+        this.distributionIndex = distributionIndex;
+    }
+
+    @Override
+    public List<RealVectorGenome> cross(List<RealVectorGenome> parents) {
+        return cross(parents, RandomSource.PerThread.instance());
+    }
+
+    @Override
+    public List<RealVectorGenome> cross(Arguments arguments, List<RealVectorGenome> parents) {
+        return cross(parents, arguments.random());
+    }
+
+    private List<RealVectorGenome> cross(List<RealVectorGenome> parents, RandomSource random) {
+        if (parents.size() != 2) {
+            throw new IllegalArgumentException("Need exactly two parents");
+        }
+        bounds.check(parents.get(0));
+        bounds.check(parents.get(1));
+
+        double[] father = parents.get(0).values();
+        double[] mother = parents.get(1).values();
+        double[] first = new double[father.length];
+        double[] second = new double[father.length];
+
+        // Draw the spread factors into the first child, so the loop below only does arithmetic
+        double power = 1 / (distributionIndex + 1);
+        for (int i = 0; i < first.length; i++) {
+            double u = random.nextDouble();
+            first[i] = u <= 0.5 ? Math.pow(2 * u, power) : Math.pow(1 / (2 * (1 - u)), power);
+        }
+
+        double[] lower = bounds.lower;
+        double[] upper = bounds.upper;
+        for (int i = 0; i < first.length; i++) {
+            double beta = first[i];
+            double sum = father[i] + mother[i];
+            double difference = beta * (mother[i] - father[i]);
+            first[i] = Math.min(Math.max(0.5 * (sum - difference), lower[i]), upper[i]);
+            second[i] = Math.min(Math.max(0.5 * (sum + difference), lower[i]), upper[i]);
+        }
+
+        List<RealVectorGenome> children = new ArrayList<>(2);
+        children.add(new RealVectorGenome(first));
+        children.add(new RealVectorGenome(second));
+        return children;
+    }
+}
@@ -0,0 +1,42 @@
+package net.caspervg.jgaf.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread, if the JVM supports it
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean BEAN = lookup();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far
+     *
+     * @return Allocated bytes, or {@code -1} if the JVM cannot measure it
+     */
+    public static long allocatedBytes() {
+        if (BEAN == null) {
+            return -1;
+        }
+        return BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean lookup() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    return sunBean;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // Not a HotSpot-based JVM, allocations cannot be measured
+        }
+        return null;
+    }
+}
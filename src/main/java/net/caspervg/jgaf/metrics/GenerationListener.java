@@ -0,0 +1,55 @@
+package net.caspervg.jgaf.metrics;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Solution;
+
+/**
+ * Receives measurements from a running genetic algorithm
+ * <p>
+ *     All methods are called on the thread that runs the algorithm, and do nothing by default.
+ * </p>
+ */
+public interface GenerationListener {
+
+    /**
+     * Listener that ignores all measurements
+     */
+    GenerationListener NONE = new GenerationListener() {
+    };
+
+    /**
+     * Called once, before the initial population is created
+     *
+     * @param arguments Arguments of the run
+     */
+    default void onStart(Arguments arguments) {
+    }
+
+    /**
+     * Called after every phase of a generation
+     *
+     * @param generation Generation the phase belongs to, {@code 0} for the initial population
+     * @param phase Phase that was measured
+     * @param nanos Wall-clock time the phase took, in nanoseconds
+     * @param allocatedBytes Estimate of the bytes allocated by the running thread during the phase,
+     *                       or {@code -1} if the JVM cannot measure it
+     */
+    default void onPhase(int generation, Phase phase, long nanos, long allocatedBytes) {
+    }
+
+    /**
+     * Called at the end of every generation, including the initial population
+     *
+     * @param statistics Statistics of the population at the end of the generation
+     */
+    default void onGeneration(GenerationStatistics statistics) {
+    }
+
+    /**
+     * Called once, when the algorithm has found its solution
+     *
+     * @param solution Solution of the run
+     */
+    default void onFinish(Solution<?> solution) {
+    }
+}
@@ -0,0 +1,293 @@
+package net.caspervg.jgaf.metrics;
+
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.ScoredPopulation;
+
+import java.util.List;
+
+/**
+ * Statistics of a population at the end of a generation
+ */
+public class GenerationStatistics {
+
+    private final int generation;
+    private final int populationSize;
+    private final long evaluations;
+    private final long totalEvaluations;
+    private final long elapsedNanos;
+    private final double bestFitness;
+    private final double worstFitness;
+    private final double meanFitness;
+    private final double standardDeviation;
+    private final double distinctRatio;
+
+    /**
+     * Creates new generation statistics, without a ratio of distinct organisms
+     *
+     * @param generation Number of the generation, {@code 0} for the initial population
+     * @param populationSize Size of the population
+     * @param evaluations Number of fitness evaluations during this generation
+     * @param totalEvaluations Number of fitness evaluations since the start of the run
+     * @param elapsedNanos Time since the start of the run, in nanoseconds
+     * @param bestFitness Best fitness in the population
+     * @param worstFitness Worst fitness in the population
+     * @param meanFitness Mean fitness of the population
+     * @param standardDeviation Standard deviation of the fitness of the population
+     */
+    public GenerationStatistics(int generation, int populationSize, long evaluations, long totalEvaluations,
+                                long elapsedNanos, double bestFitness, double worstFitness, double meanFitness,
+                                double standardDeviation) {
+        this(generation, populationSize, evaluations, totalEvaluations, elapsedNanos, bestFitness, worstFitness,
+                meanFitness, standardDeviation, Double.NaN);
+    }
+
+    /**
+     * Creates new generation statistics
+     *
+     * @param generation Number of the generation, {@code 0} for the initial population
+     * @param populationSize Size of the population
+     * @param evaluations Number of fitness evaluations during this generation
+     * @param totalEvaluations Number of fitness evaluations since the start of the run
+     * @param elapsedNanos Time since the start of the run, in nanoseconds
+     * @param bestFitness Best fitness in the population
+     * @param worstFitness Worst fitness in the population
+     * @param meanFitness Mean fitness of the population
+     * @param standardDeviation Standard deviation of the fitness of the population
+     * @param distinctRatio Fraction of the organisms that are distinct, or {@link Double#NaN} if unknown
+     */
+    public GenerationStatistics(int generation, int populationSize, long evaluations, long totalEvaluations,
+                                long elapsedNanos, double bestFitness, double worstFitness, double meanFitness,
+                                double standardDeviation, double distinctRatio) {
+        this.generation = generation;
+        this.populationSize = populationSize;
+        this.evaluations = evaluations;
+        this.totalEvaluations = totalEvaluations;
+        this.elapsedNanos = elapsedNanos;
+        this.bestFitness = bestFitness;
+        this.worstFitness = worstFitness;
+        this.meanFitness = meanFitness;
+        this.standardDeviation = standardDeviation;
+        this.distinctRatio = distinctRatio;
+    }
+
+    /**
+     * Calculates the statistics of a population in a single pass over its scores
+     *
+     * @param generation Number of the generation, {@code 0} for the initial population
+     * @param population Population to calculate the statistics of
+     * @param goal Goal that decides which fitness is best
+     * @param evaluations Number of fitness evaluations during this generation
+     * @param totalEvaluations Number of fitness evaluations since the start of the run
+     * @param elapsedNanos Time since the start of the run, in nanoseconds
+     * @return Statistics of the population
+     */
+    public static GenerationStatistics of(int generation, ScoredPopulation<?> population, Goal goal,
+                                          long evaluations, long totalEvaluations, long elapsedNanos) {
+        int size = population.size();
+        double best = Double.NaN;
+        double worst = Double.NaN;
+        double mean = 0;
+        double squares = 0;
+
+        for (int i = 0; i < size; i++) {
+            double score = population.getScore(i);
+            if (i == 0 || goal.better(score, best)) {
+                best = score;
+            }
+            if (i == 0 || goal.worse(score, worst)) {
+                worst = score;
+            }
+            // Welford's algorithm, to keep the variance stable for large fitness values
+            double delta = score - mean;
+            mean += delta / (i + 1);
+            squares += delta * (score - mean);
+        }
+
+        double standardDeviation = size > 0 ? Math.sqrt(squares / size) : Double.NaN;
+        return new GenerationStatistics(generation, size, evaluations, totalEvaluations, elapsedNanos,
+                best, worst, size > 0 ? mean : Double.NaN, standardDeviation);
+    }
+
+    /**
+     * Combines the statistics of several populations that evolve side by side into the statistics of
+     * a single population that contains all of their organisms
+     *
+     * @param generation Number of the generation, {@code 0} for the initial populations
+     * @param goal Goal that decides which fitness is best
+     * @param parts Statistics of the separate populations
+     * @param elapsedNanos Time since the start of the run, in nanoseconds
+     * @return Statistics of the combined population
+     */
+    public static GenerationStatistics combine(int generation, Goal goal, List<GenerationStatistics> parts,
+                                               long elapsedNanos) {
+        int size = 0;
+        long evaluations = 0;
+        long totalEvaluations = 0;
+        double best = Double.NaN;
+        double worst = Double.NaN;
+        double sum = 0;
+        for (GenerationStatistics part : parts) {
+            evaluations += part.evaluations;
+            totalEvaluations += part.totalEvaluations;
+            if (part.populationSize == 0) {
+                continue;
+            }
+            if (size == 0 || goal.better(part.bestFitness, best)) {
+                best = part.bestFitness;
+            }
+            if (size == 0 || goal.worse(part.worstFitness, worst)) {
+                worst = part.worstFitness;
+            }
+            size += part.populationSize;
+            sum += part.meanFitness * part.populationSize;
+        }
+
+        double mean = size > 0 ? sum / size : Double.NaN;
+        double squares = 0;
+        for (GenerationStatistics part : parts) {
+            if (part.populationSize > 0) {
+                double delta = part.meanFitness - mean;
+                squares += part.populationSize * (part.standardDeviation * part.standardDeviation + delta * delta);
+            }
+        }
+
+        double standardDeviation = size > 0 ? Math.sqrt(squares / size) : Double.NaN;
+        return new GenerationStatistics(generation, size, evaluations, totalEvaluations, elapsedNanos,
+                best, worst, mean, standardDeviation, distinctRatio(parts, size));
+    }
+
+    /**
+     * Combines the ratios of distinct organisms of several populations, weighted by their size. Organisms
+     * are only compared within their own population, so duplicates across populations are not seen.
+     */
+    private static double distinctRatio(List<GenerationStatistics> parts, int size) {
+        double distinct = 0;
+        for (GenerationStatistics part : parts) {
+            if (part.populationSize > 0) {
+                if (Double.isNaN(part.distinctRatio)) {
+                    return Double.NaN;
+                }
+                distinct += part.distinctRatio * part.populationSize;
+            }
+        }
+        return size > 0 ? distinct / size : Double.NaN;
+    }
+
+    /**
+     * Returns a copy of these statistics with the given ratio of distinct organisms
+     *
+     * @param distinctRatio Fraction of the organisms that are distinct
+     * @return Copy of the statistics
+     */
+    public GenerationStatistics withDistinctRatio(double distinctRatio) {
+        return new GenerationStatistics(generation, populationSize, evaluations, totalEvaluations, elapsedNanos,
+                bestFitness, worstFitness, meanFitness, standardDeviation, distinctRatio);
+    }
+
+    /**
+     * Returns the number of the generation, {@code 0} for the initial population
+     *
+     * @return Number of the generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the size of the population
+     *
+     * @return Size of the population
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Returns the number of fitness evaluations during this generation
+     *
+     * @return Number of fitness evaluations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the number of fitness evaluations since the start of the run
+     *
+     * @return Total number of fitness evaluations
+     */
+    public long getTotalEvaluations() {
+        return totalEvaluations;
+    }
+
+    /**
+     * Returns the time since the start of the run, in nanoseconds
+     *
+     * @return Elapsed time
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the best fitness in the population
+     *
+     * @return Best fitness
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the worst fitness in the population
+     *
+     * @return Worst fitness
+     */
+    public double getWorstFitness() {
+        return worstFitness;
+    }
+
+    /**
+     * Returns the mean fitness of the population
+     *
+     * @return Mean fitness
+     */
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    /**
+     * Returns the standard deviation of the fitness of the population
+     *
+     * @return Standard deviation of the fitness
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * Returns the fraction of the organisms that are distinct, see {@link net.caspervg.jgaf.GenomeIndex}.
+     * The built-in algorithms report it for every generation they report.
+     *
+     * @return Ratio of distinct organisms, or {@link Double#NaN} if unknown
+     */
+    public double getDistinctRatio() {
+        return distinctRatio;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationStatistics{" +
+                "generation=" + generation +
+                ", populationSize=" + populationSize +
+                ", evaluations=" + evaluations +
+                ", totalEvaluations=" + totalEvaluations +
+                ", elapsedNanos=" + elapsedNanos +
+                ", bestFitness=" + bestFitness +
+                ", worstFitness=" + worstFitness +
+                ", meanFitness=" + meanFitness +
+                ", standardDeviation=" + standardDeviation +
+                ", distinctRatio=" + distinctRatio +
+                '}';
+    }
+}
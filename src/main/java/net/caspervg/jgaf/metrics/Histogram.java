@@ -0,0 +1,115 @@
+package net.caspervg.jgaf.metrics;
+
+/**
+ * Histogram of non-negative {@code long} values with power-of-two buckets
+ * <p>
+ *     Recording a value is O(1) and allocates nothing. Percentiles are approximate: they return
+ *     the upper bound of the bucket the percentile falls in, which is at most twice the real value.
+ *     This class is not thread-safe.
+ * </p>
+ */
+public class Histogram {
+
+    private final long[] buckets = new long[Long.SIZE];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Records a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value Value to record
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(value) - (value == 0 ? 0 : 1)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all the values recorded in another histogram to this histogram
+     *
+     * @param other Histogram to add
+     */
+    public void merge(Histogram other) {
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] += other.buckets[bucket];
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of recorded values
+     *
+     * @return Number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded values
+     *
+     * @return Sum of the values
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the smallest recorded value, or {@code 0} if nothing was recorded
+     *
+     * @return Smallest value
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest recorded value, or {@code 0} if nothing was recorded
+     *
+     * @return Largest value
+     */
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or {@code 0} if nothing was recorded
+     *
+     * @return Mean value
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns an approximation of a percentile of the recorded values
+     *
+     * @param percentile Percentile to return, between {@code 0.0} and {@code 100.0}
+     * @return Upper bound of the bucket the percentile falls in, capped at the largest value
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= Math.max(1, rank)) {
+                long upper = bucket >= Long.SIZE - 2 ? Long.MAX_VALUE : (2L << bucket) - 1;
+                return Math.min(upper, max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,144 @@
+package net.caspervg.jgaf.metrics;
+
+import net.caspervg.jgaf.Arguments;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link GenerationListener} that keeps its measurements in memory
+ * <p>
+ *     For every {@link Phase}, the time and the allocated bytes are recorded in a {@link Histogram}.
+ *     The statistics of the most recent generations are kept as well, up to a maximum. The recorder
+ *     can be read from another thread while the algorithm is running.
+ * </p>
+ */
+public class HistogramRecorder implements GenerationListener {
+
+    private final int maximumGenerations;
+    private final Map<Phase, Histogram> nanos = new EnumMap<>(Phase.class);
+    private final Map<Phase, Histogram> allocations = new EnumMap<>(Phase.class);
+    private final Deque<GenerationStatistics> generations = new ArrayDeque<>();
+
+    /**
+     * Creates a new recorder that keeps the statistics of the last {@code 10000} generations
+     */
+    public HistogramRecorder() {
+        this(10000);
+    }
+
+    /**
+     * Creates a new recorder
+     *
+     * @param maximumGenerations Number of generations to keep the statistics of
+     */
+    public HistogramRecorder(int maximumGenerations) {
+        this.maximumGenerations = maximumGenerations;
+        reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Clears the measurements of a previous run.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     */
+    @Override
+    public void onStart(Arguments arguments) {
+        reset();
+    }
+
+    @Override
+    public synchronized void onPhase(int generation, Phase phase, long nanos, long allocatedBytes) {
+        this.nanos.get(phase).record(nanos);
+        if (allocatedBytes >= 0) {
+            this.allocations.get(phase).record(allocatedBytes);
+        }
+    }
+
+    @Override
+    public synchronized void onGeneration(GenerationStatistics statistics) {
+        if (generations.size() >= maximumGenerations) {
+            generations.pollFirst();
+        }
+        generations.addLast(statistics);
+    }
+
+    /**
+     * Returns a copy of the time histogram of a phase, in nanoseconds
+     *
+     * @param phase Phase to return the histogram of
+     * @return Time histogram of the phase
+     */
+    public synchronized Histogram getNanos(Phase phase) {
+        return copy(nanos.get(phase));
+    }
+
+    /**
+     * Returns a copy of the allocation histogram of a phase, in bytes. The histogram is empty
+     * if the JVM cannot measure allocations.
+     *
+     * @param phase Phase to return the histogram of
+     * @return Allocation histogram of the phase
+     */
+    public synchronized Histogram getAllocations(Phase phase) {
+        return copy(allocations.get(phase));
+    }
+
+    /**
+     * Returns the statistics of the recorded generations, oldest first
+     *
+     * @return Statistics of the generations
+     */
+    public synchronized List<GenerationStatistics> getGenerations() {
+        return Collections.unmodifiableList(new ArrayList<>(generations));
+    }
+
+    /**
+     * Returns a human-readable summary of the measurements, with one line per phase
+     *
+     * @return Summary of the measurements
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-9s %10s %14s %12s %12s %12s %14s%n",
+                "phase", "count", "total ms", "mean us", "p50 us", "p99 us", "alloc MB"));
+        for (Phase phase : Phase.values()) {
+            Histogram time = nanos.get(phase);
+            Histogram allocated = allocations.get(phase);
+            report.append(String.format("%-9s %10d %14.3f %12.3f %12.3f %12.3f %14.3f%n",
+                    phase,
+                    time.getCount(),
+                    time.getTotal() / 1e6,
+                    time.getMean() / 1e3,
+                    time.getPercentile(50) / 1e3,
+                    time.getPercentile(99) / 1e3,
+                    allocated.getTotal() / (1024.0 * 1024.0)));
+        }
+        if (!generations.isEmpty()) {
+            report.append(generations.peekLast()).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private synchronized void reset() {
+        for (Phase phase : Phase.values()) {
+            nanos.put(phase, new Histogram());
+            allocations.put(phase, new Histogram());
+        }
+        generations.clear();
+    }
+
+    private Histogram copy(Histogram histogram) {
+        Histogram copy = new Histogram();
+        copy.merge(histogram);
+        return copy;
+    }
+}
@@ -0,0 +1,31 @@
+package net.caspervg.jgaf.metrics;
+
+/**
+ * Phases of a generation that are measured by a {@link GenerationListener}
+ */
+public enum Phase {
+    /**
+     * Creation of the initial population
+     */
+    CREATE,
+    /**
+     * Calculation of the fitness of new organisms
+     */
+    EVALUATE,
+    /**
+     * Selection of the parents
+     */
+    SELECT,
+    /**
+     * Breeding of children from the parents
+     */
+    BREED,
+    /**
+     * Mutation of the children
+     */
+    MUTATE,
+    /**
+     * Selection and killing of organisms
+     */
+    KILL
+}
@@ -0,0 +1,45 @@
+package net.caspervg.jgaf.step;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Provides a way to calculate the fitness of an organism without waiting for the result
+ * <p>
+ *     Implement this next to {@link Fitter} when the fitness is calculated somewhere else, for example
+ *     by an external process or service, and the calculation can be started without blocking a thread
+ *     for its whole duration. The built-in steps use {@link #of(Fitter, Executor)} to pick up a fitter
+ *     that also implements this interface.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+@FunctionalInterface
+public interface AsyncFitter<O> {
+
+    /**
+     * Starts calculating the fitness of an organism
+     *
+     * @param organism Organism to calculate the fitness of
+     * @return Future that completes with the fitness of the organism
+     */
+    CompletableFuture<Double> calculateAsync(O organism);
+
+    /**
+     * Returns an asynchronous fitter for the given fitter. If the fitter implements {@link AsyncFitter}
+     * itself, it is returned as is. Otherwise, the returned fitter calls the fitter on the executor.
+     *
+     * @param fitter Fitter to calculate the fitness with
+     * @param executor Executor to call the fitter on
+     * @param <O> Type of the organism
+     * @return Asynchronous fitter for the fitter
+     */
+    @SuppressWarnings("unchecked")
+    static <O> AsyncFitter<O> of(Fitter<?, O> fitter, Executor executor) {
+        if (fitter instanceof AsyncFitter) {
+            return (AsyncFitter<O>) fitter;
+        }
+
+        return organism -> CompletableFuture.supplyAsync(() -> fitter.calculateDouble(organism), executor);
+    }
+}
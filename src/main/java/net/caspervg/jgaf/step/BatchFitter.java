@@ -0,0 +1,77 @@
+package net.caspervg.jgaf.step;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Provides a way to calculate the fitness of many organisms at once
+ * <p>
+ *     Implement this next to {@link Fitter} when scoring a block of organisms is cheaper than
+ *     scoring them one by one, for example because shared lookup tables only need to be loaded
+ *     once. The built-in steps use {@link #of(Fitter)} to pick up a fitter that also implements
+ *     this interface.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+@FunctionalInterface
+public interface BatchFitter<O> {
+
+    /**
+     * Calculates the fitness of a range of organisms
+     *
+     * @param organisms Organisms to calculate the fitness of
+     * @param from Index of the first organism to calculate the fitness of (inclusive)
+     * @param to Index of the last organism to calculate the fitness of (exclusive)
+     * @param fitnesses Array to store the fitness values in
+     * @param offset Index in {@code fitnesses} to store the fitness of the first organism
+     */
+    void calculateAll(List<? extends O> organisms, int from, int to, double[] fitnesses, int offset);
+
+    /**
+     * Calculates the fitness of a range of organisms in an array
+     *
+     * @param organisms Organisms to calculate the fitness of
+     * @param from Index of the first organism to calculate the fitness of (inclusive)
+     * @param to Index of the last organism to calculate the fitness of (exclusive)
+     * @param fitnesses Array to store the fitness values in
+     * @param offset Index in {@code fitnesses} to store the fitness of the first organism
+     */
+    default void calculateAll(O[] organisms, int from, int to, double[] fitnesses, int offset) {
+        calculateAll(Arrays.asList(organisms), from, to, fitnesses, offset);
+    }
+
+    /**
+     * Calculates the fitness of all the organisms in a list
+     *
+     * @param organisms Organisms to calculate the fitness of
+     * @return Fitness of the organisms, in the same order
+     */
+    default double[] calculateAll(List<? extends O> organisms) {
+        double[] fitnesses = new double[organisms.size()];
+        calculateAll(organisms, 0, fitnesses.length, fitnesses, 0);
+        return fitnesses;
+    }
+
+    /**
+     * Returns a batch fitter for the given fitter. If the fitter implements {@link BatchFitter}
+     * itself, it is returned as is. Otherwise, the returned batch fitter calls the fitter for
+     * one organism at a time.
+     *
+     * @param fitter Fitter to calculate the fitness with
+     * @param <O> Type of the organism
+     * @return Batch fitter for the fitter
+     */
+    @SuppressWarnings("unchecked")
+    static <O> BatchFitter<O> of(Fitter<?, O> fitter) {
+        if (fitter instanceof BatchFitter) {
+            return (BatchFitter<O>) fitter;
+        }
+
+        return (organisms, from, to, fitnesses, offset) -> {
+            for (int i = from; i < to; i++) {
+                fitnesses[offset + i - from] = fitter.calculateDouble(organisms.get(i));
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package net.caspervg.jgaf.step;
 
+import net.caspervg.jgaf.Arguments;
+
 import java.util.List;
 
 /**
@@ -18,4 +20,17 @@ public interface Crosser<O> {
      * @return List of created children
      */
     List<O> cross(List<O> parents);
+
+    /**
+     * Performs a crossover between a number of parents to create children, with access to the
+     * arguments of the algorithm (for example, its {@link Arguments#random() source of random numbers}).
+     * By default, this ignores the arguments and calls {@link #cross(List)}.
+     *
+     * @param arguments Arguments to use for the crossover
+     * @param parents List of parents to use
+     * @return List of created children
+     */
+    default List<O> cross(Arguments arguments, List<O> parents) {
+        return cross(parents);
+    }
 }
@@ -16,4 +16,17 @@ public interface Fitter<F extends Number & Comparable, O> {
      * @return Fitness of the organism
      */
     F calculate(O organism);
+
+    /**
+     * Calculates the fitness of an organism as a primitive {@code double}.
+     * By default, this unboxes the result of {@link #calculate(Object)}. Implementations that
+     * can calculate the fitness without boxing, such as {@link net.caspervg.jgaf.step.fitter.DoubleFitter},
+     * override it.
+     *
+     * @param organism Organism to calculate organism of
+     * @return Fitness of the organism
+     */
+    default double calculateDouble(O organism) {
+        return calculate(organism).doubleValue();
+    }
 }
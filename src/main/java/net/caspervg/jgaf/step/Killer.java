@@ -17,10 +17,29 @@ public interface Killer<O> extends Step<O> {
      *
      * @param arguments Arguments to use
      * @param population Population to kill from
-     * @param selected Indices of organisms in the population to kill
+     * @param selected Organisms in the population to kill
      * @return New population with the selected organisms removed
      */
     Population<O> kill(Arguments arguments, Population<O> population, Collection<O> selected);
 
+    /**
+     * Kills the individuals at the selected indices
+     * <p>
+     *     By default, this looks up the organisms at the indices and calls
+     *     {@link #kill(Arguments, Population, Collection)}.
+     * </p>
+     *
+     * @param arguments Arguments to use
+     * @param population Population to kill from
+     * @param selected Indices of organisms in the population to kill
+     * @return New population with the selected organisms removed
+     */
+    default Population<O> kill(Arguments arguments, Population<O> population, int[] selected) {
+        List<O> organisms = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            organisms.add(population.get(index));
+        }
+        return kill(arguments, population, organisms);
+    }
 
 }
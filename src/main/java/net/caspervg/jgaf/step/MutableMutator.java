@@ -0,0 +1,41 @@
+package net.caspervg.jgaf.step;
+
+import net.caspervg.jgaf.Arguments;
+
+/**
+ * Provides a way to mutate an organism in place, for organisms that can be changed without copying them
+ * <p>
+ *     Mutating in place saves a copy of every child, but the child that is mutated changes. Only use it
+ *     for children that are not shared with anything else, like the fresh children of a crosser. By default,
+ *     {@link #mutate(Arguments, Object)} mutates in place and returns the same organism.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+@FunctionalInterface
+public interface MutableMutator<O> extends Mutator<O> {
+
+    /**
+     * Mutates a single organism in place
+     *
+     * @param arguments Arguments to use for the mutation
+     * @param child Child to mutate
+     */
+    void mutateInPlace(Arguments arguments, O child);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     By default, this mutates the child in place and returns it.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param child {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    default O mutate(Arguments arguments, O child) {
+        mutateInPlace(arguments, child);
+        return child;
+    }
+}
@@ -29,6 +29,18 @@ public interface Provider<F extends Number & Comparable, O> {
      */
     Breeder<O> breeder();
 
+    /**
+     * Provides a {@link Crosser}.
+     * This is used by algorithms that cross parents themselves, instead of through the {@link #breeder()}.
+     * By default, this is not supported.
+     *
+     * @return Crosser for organisms
+     * @throws UnsupportedOperationException if this provider has no crosser
+     */
+    default Crosser<O> crosser() {
+        throw new UnsupportedOperationException("This provider has no crosser");
+    }
+
     /**
      * Provides a {@link Mutator}.
      * This is used to mutate organisms.
@@ -53,6 +65,17 @@ public interface Provider<F extends Number & Comparable, O> {
      */
     Fitter<F, O> fitter();
 
+    /**
+     * Provides a {@link BatchFitter}.
+     * This is used to calculate the fitness of many organisms at once. By default, this
+     * is {@link BatchFitter#of(Fitter)} for the {@link #fitter()}.
+     *
+     * @return Batch fitter for organisms
+     */
+    default BatchFitter<O> batchFitter() {
+        return BatchFitter.of(fitter());
+    }
+
     /**
      * Provides a {@link Selector}.
      * This is used to select which organism(s) are picked for breeding and death.
@@ -18,4 +18,21 @@ public interface Selector<O> extends Step<O> {
      */
     Collection<O> select(Arguments arguments, Population<O> population, Goal goal);
 
+    /**
+     * Selects the organisms in a population that should be killed or bred, and returns their
+     * indices in the population instead of the organisms themselves.
+     * <p>
+     *     By default, this looks up the organisms returned by
+     *     {@link #select(Arguments, Population, Goal)} with {@link Population#indicesOf(Collection)}.
+     * </p>
+     *
+     * @param arguments Arguments to use
+     * @param population Population to select from
+     * @param goal Goal of the selection
+     * @return Indices of the organisms that were selected
+     */
+    default int[] selectIndices(Arguments arguments, Population<O> population, Goal goal) {
+        return population.indicesOf(select(arguments, population, goal));
+    }
+
 }
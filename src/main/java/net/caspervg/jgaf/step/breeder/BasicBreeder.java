@@ -55,7 +55,7 @@ public class BasicBreeder<O> implements Breeder<O> {
             currentParents.add(father);
             currentParents.add(mother);
 
-            List<O> children = crosser.cross(currentParents);
+            List<O> children = crosser.cross(arguments, currentParents);
             bred.addAll(children);
         }
 
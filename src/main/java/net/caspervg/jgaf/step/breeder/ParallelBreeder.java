@@ -0,0 +1,168 @@
+package net.caspervg.jgaf.step.breeder;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Breeder;
+import net.caspervg.jgaf.step.Crosser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of a {@link Breeder} that crosses the pairs of parents on a {@link ForkJoinPool}
+ * <p>
+ *     The breeding pool is split into chunks of consecutive pairs. Every chunk is crossed by a single
+ *     task, which collects the children in a buffer of its own, so the tasks share nothing while they
+ *     run. The buffers are joined in the order of the chunks afterwards, so the children come out in the
+ *     same order as with {@link BasicBreeder}.
+ * </p>
+ * <p>
+ *     Every pair of parents gets its own stream of random numbers, split from {@link Arguments#random()}
+ *     before any task starts. With a seeded source of random numbers, the children do not depend on the
+ *     size of the pool, the size of the chunks or the order in which the tasks run. The crosser is called
+ *     from several threads at once, so it needs to be thread-safe and should use the random numbers of the
+ *     arguments it is given.
+ * </p>
+ * <p>
+ *     This pays off when crossing is expensive, for example when the children need to be repaired.
+ *     For cheap crossers, {@link BasicBreeder} is usually faster.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class ParallelBreeder<O> implements Breeder<O> {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private Crosser<O> crosser;
+    private ForkJoinPool pool;
+
+    private ParallelBreeder() {
+        // We need a crosser
+    }
+
+    /**
+     * Creates a new parallel breeder that crosses on the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param crosser Crosser to use for breeding
+     */
+    public ParallelBreeder(Crosser<O> crosser) {
+        this(crosser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new parallel breeder
+     *
+     * @param crosser Crosser to use for breeding
+     * @param pool Pool to cross on. The pool will not be shut down by the breeder.
+     */
+    public ParallelBreeder(Crosser<O> crosser, ForkJoinPool pool) {
+        this.crosser = crosser;
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation breeds pairs of consecutive parents, like {@link BasicBreeder}, but crosses
+     *     chunks of pairs in parallel. Like {@link BasicBreeder}, it breeds half of
+     *     {@link Arguments#breedingPoolSize()} pairs, rounded up, and parents beyond those pairs are left out.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param parents {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IndexOutOfBoundsException if there are fewer parents than the pairs need, before any pair is
+     * crossed
+     */
+    @Override
+    public Collection<O> breed(Arguments arguments, Population<O> population, Collection<O> parents) {
+        List<O> breedables = parents instanceof List && parents instanceof RandomAccess
+                ? (List<O>) parents
+                : new ArrayList<>(parents);
+        int pairs = (arguments.breedingPoolSize() + 1) / 2;
+        if (2 * pairs > breedables.size()) {
+            throw new IndexOutOfBoundsException("Need " + 2 * pairs + " parents to breed " + pairs
+                    + " pairs, but got " + breedables.size());
+        }
+
+        int chunks = Math.max(1, Math.min(pairs, pool.getParallelism() * CHUNKS_PER_THREAD));
+        int chunkSize = (pairs + chunks - 1) / chunks;
+        RandomSource random = arguments.random();
+        List<List<O>> buffers = new ArrayList<>(chunks);
+        List<Chunk> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < pairs; from += chunkSize) {
+            List<O> buffer = new ArrayList<>();
+            buffers.add(buffer);
+            int to = Math.min(from + chunkSize, pairs);
+            RandomSource[] randoms = new RandomSource[to - from];
+            for (int i = 0; i < randoms.length; i++) {
+                randoms[i] = random.split();
+            }
+            tasks.add(new Chunk(arguments, randoms, breedables, from, to, buffer));
+        }
+
+        if (tasks.size() == 1) {
+            tasks.get(0).compute();
+        } else if (!tasks.isEmpty()) {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        int size = 0;
+        for (List<O> buffer : buffers) {
+            size += buffer.size();
+        }
+        List<O> bred = new ArrayList<>(size);
+        for (List<O> buffer : buffers) {
+            bred.addAll(buffer);
+        }
+        return bred;
+    }
+
+    /**
+     * Crosses the pairs {@code [from, to)} into a buffer of its own, with a stream of random numbers per pair
+     */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Arguments arguments;
+        private final RandomSource[] randoms;
+        private final List<O> parents;
+        private final int from;
+        private final int to;
+        private final List<O> children;
+
+        Chunk(Arguments arguments, RandomSource[] randoms, List<O> parents, int from, int to, List<O> children) {
+            this.arguments = arguments;
+            this.randoms = randoms;
+            this.parents = parents;
+            this.from = from;
+            this.to = to;
+            this.children = children;
+        }
+
+        @Override
+        protected void compute() {
+            List<O> pair = new ArrayList<>(2);
+            pair.add(null);
+            pair.add(null);
+            for (int i = from; i < to; i++) {
+                // The pair is reused, the children are copied out before it changes
+                pair.set(0, parents.get(2 * i));
+                pair.set(1, parents.get(2 * i + 1));
+                children.addAll(crosser.cross(arguments.withRandom(randoms[i - from]), pair));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.caspervg.jgaf.step.breeder;
+
+import net.caspervg.jgaf.step.Crosser;
+import net.caspervg.jgaf.step.StepFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelBreederFactory<O> implements StepFactory<ParallelBreeder<O>, O> {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ParallelBreeder<O> newInstance(Object... arguments) {
+        if (arguments.length < 1 || !(arguments[0] instanceof Crosser)) {
+            throw new IllegalArgumentException("Need at least an instance of Crosser<O>");
+        }
+
+        if (arguments.length > 1 && arguments[1] instanceof ForkJoinPool) {
+            return new ParallelBreeder<>((Crosser<O>) arguments[0], (ForkJoinPool) arguments[1]);
+        }
+        return new ParallelBreeder<>((Crosser<O>) arguments[0]);
+    }
+}
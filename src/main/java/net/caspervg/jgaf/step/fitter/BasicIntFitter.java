@@ -10,6 +10,25 @@ public interface BasicIntFitter<O> extends Fitter<Integer, O> {
      * @param organism Organism to calculate organism of
      * @return Fitness of the organism
      */
-    Integer calculate(O organism);
+    int applyAsInt(O organism);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Boxes the result of {@link #applyAsInt(Object)}.
+     * </p>
+     *
+     * @param organism {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    default Integer calculate(O organism) {
+        return applyAsInt(organism);
+    }
+
+    @Override
+    default double calculateDouble(O organism) {
+        return applyAsInt(organism);
+    }
 
 }
@@ -0,0 +1,336 @@
+package net.caspervg.jgaf.step.fitter;
+
+import net.caspervg.jgaf.step.BatchFitter;
+import net.caspervg.jgaf.step.Fitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator for a {@link Fitter} that remembers the fitness of the organisms it has already scored.
+ * <p>
+ *     The cache holds at most {@code maximumSize} entries. When it is full, the least recently used
+ *     entry is evicted. Organisms can be keyed either by identity ({@code ==}) or by equality
+ *     ({@link Object#equals(Object)}), see {@link Keys}.
+ * </p>
+ * <p>
+ *     The decorated fitter is never called while the cache is locked, so an expensive fitter can
+ *     still be used from multiple threads at once.
+ * </p>
+ * <p>
+ *     The cache keeps the fast paths of the decorated fitter: {@link #calculateDouble(Object)} remembers
+ *     the primitive fitness, and a batch of organisms is looked up at once, after which only the misses
+ *     are scored, with the decorated fitter as a {@link BatchFitter} if it is one.
+ * </p>
+ *
+ * @param <F> Type of the fitness
+ * @param <O> Type of the organism
+ */
+public class CachingFitter<F extends Number & Comparable, O> implements Fitter<F, O>, BatchFitter<O> {
+
+    /**
+     * Strategy used to decide whether two organisms share a cache entry
+     */
+    public enum Keys {
+        /**
+         * Organisms share an entry only if they are the same instance
+         */
+        IDENTITY,
+        /**
+         * Organisms share an entry if they are {@link Object#equals(Object) equal}
+         */
+        EQUALITY
+    }
+
+    private final Fitter<F, O> fitter;
+    private final BatchFitter<O> batchFitter;
+    private final Keys keys;
+    private final int maximumSize;
+    private final Map<Object, CachedFitness<F>> cache;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a new caching fitter that keys organisms by equality
+     *
+     * @param fitter Fitter to decorate
+     * @param maximumSize Maximum number of fitness values to remember
+     */
+    public CachingFitter(Fitter<F, O> fitter, int maximumSize) {
+        this(fitter, maximumSize, Keys.EQUALITY);
+    }
+
+    /**
+     * Creates a new caching fitter
+     *
+     * @param fitter Fitter to decorate
+     * @param maximumSize Maximum number of fitness values to remember
+     * @param keys Strategy used to key organisms in the cache
+     */
+    public CachingFitter(Fitter<F, O> fitter, int maximumSize, Keys keys) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size of the cache should be at least 1");
+        }
+
+        this.fitter = fitter;
+        this.batchFitter = BatchFitter.of(fitter);
+        this.keys = keys;
+        this.maximumSize = maximumSize;
+        this.cache = new LinkedHashMap<Object, CachedFitness<F>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedFitness<F>> eldest) {
+                if (size() > CachingFitter.this.maximumSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Returns the remembered fitness if the organism has been scored before, otherwise
+     *     calculates it with the decorated fitter and remembers the result.
+     * </p>
+     *
+     * @param organism {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public F calculate(O organism) {
+        Object key = keyOf(organism);
+
+        synchronized (cache) {
+            CachedFitness<F> entry = cache.get(key);
+            // An entry that was filled by calculateDouble only knows the primitive fitness
+            if (entry != null && entry.fitness != null) {
+                hits++;
+                return entry.fitness;
+            }
+            misses++;
+        }
+
+        F fitness = fitter.calculate(organism);
+
+        synchronized (cache) {
+            remember(key, fitness, fitness.doubleValue());
+        }
+        return fitness;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Returns the remembered fitness if the organism has been scored before, otherwise
+     *     calculates it with {@link Fitter#calculateDouble(Object)} of the decorated fitter, so the
+     *     fitness is not boxed if the decorated fitter does not need to.
+     * </p>
+     *
+     * @param organism {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double calculateDouble(O organism) {
+        Object key = keyOf(organism);
+
+        synchronized (cache) {
+            CachedFitness<F> entry = cache.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.value;
+            }
+            misses++;
+        }
+
+        double value = fitter.calculateDouble(organism);
+
+        synchronized (cache) {
+            remember(key, null, value);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Looks up all organisms first, and then scores the ones that were not remembered in a single
+     *     batch, with the decorated fitter as a {@link BatchFitter} if it implements that interface.
+     * </p>
+     *
+     * @param organisms {@inheritDoc}
+     * @param from {@inheritDoc}
+     * @param to {@inheritDoc}
+     * @param fitnesses {@inheritDoc}
+     * @param offset {@inheritDoc}
+     */
+    @Override
+    public void calculateAll(List<? extends O> organisms, int from, int to, double[] fitnesses, int offset) {
+        Object[] missingKeys = new Object[to - from];
+        int[] missingIndices = new int[to - from];
+        int missing = 0;
+
+        synchronized (cache) {
+            for (int i = from; i < to; i++) {
+                Object key = keyOf(organisms.get(i));
+                CachedFitness<F> entry = cache.get(key);
+                if (entry != null) {
+                    hits++;
+                    fitnesses[offset + i - from] = entry.value;
+                } else {
+                    misses++;
+                    missingKeys[missing] = key;
+                    missingIndices[missing++] = i;
+                }
+            }
+        }
+
+        if (missing == 0) {
+            return;
+        }
+
+        List<O> pending = new ArrayList<>(missing);
+        for (int i = 0; i < missing; i++) {
+            pending.add(organisms.get(missingIndices[i]));
+        }
+        double[] values = new double[missing];
+        batchFitter.calculateAll(pending, 0, missing, values, 0);
+
+        synchronized (cache) {
+            for (int i = 0; i < missing; i++) {
+                remember(missingKeys[i], null, values[i]);
+                fitnesses[offset + missingIndices[i] - from] = values[i];
+            }
+        }
+    }
+
+    /**
+     * Forgets all remembered fitness values. The counters are not reset.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of fitness values that are currently remembered
+     *
+     * @return Current size of the cache
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Returns the number of calculations that were answered from the cache
+     *
+     * @return Number of cache hits
+     */
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    /**
+     * Returns the number of calculations that had to be delegated to the decorated fitter
+     *
+     * @return Number of cache misses
+     */
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    /**
+     * Returns the number of entries that were evicted because the cache was full
+     *
+     * @return Number of evictions
+     */
+    public long getEvictions() {
+        synchronized (cache) {
+            return evictions;
+        }
+    }
+
+    /**
+     * Returns the maximum number of fitness values this cache remembers
+     *
+     * @return Maximum size of the cache
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the strategy used to key organisms in the cache
+     *
+     * @return Key strategy
+     */
+    public Keys getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the fitter that is decorated by this cache
+     *
+     * @return Decorated fitter
+     */
+    public Fitter<F, O> getFitter() {
+        return fitter;
+    }
+
+    /**
+     * Remembers a fitness, without forgetting a boxed fitness that is already remembered.
+     * Should only be called while the cache is locked.
+     */
+    private void remember(Object key, F fitness, double value) {
+        if (fitness != null || !cache.containsKey(key)) {
+            cache.put(key, new CachedFitness<>(fitness, value));
+        }
+    }
+
+    private Object keyOf(O organism) {
+        if (keys == Keys.IDENTITY) {
+            return new IdentityKey(organism);
+        }
+        return organism;
+    }
+
+    private static final class CachedFitness<F> {
+        private final F fitness;
+        private final double value;
+
+        CachedFitness(F fitness, double value) {
+            this.fitness = fitness;
+            this.value = value;
+        }
+    }
+
+    private static final class IdentityKey {
+        private final Object organism;
+
+        IdentityKey(Object organism) {
+            this.organism = organism;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).organism == organism;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(organism);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.caspervg.jgaf.step.fitter;
+
+import net.caspervg.jgaf.step.Fitter;
+
+/**
+ * Fitter with a primitive {@code double} fitness. The built-in steps call {@link #applyAsDouble(Object)}
+ * directly, so the fitness is never boxed on their hot paths.
+ *
+ * @param <O> Type of the organism
+ */
+@FunctionalInterface
+public interface DoubleFitter<O> extends Fitter<Double, O> {
+
+    /**
+     * Calculates the fitness of an organism
+     *
+     * @param organism Organism to calculate organism of
+     * @return Fitness of the organism
+     */
+    double applyAsDouble(O organism);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     Boxes the result of {@link #applyAsDouble(Object)}.
+     * </p>
+     *
+     * @param organism {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    default Double calculate(O organism) {
+        return applyAsDouble(organism);
+    }
+
+    @Override
+    default double calculateDouble(O organism) {
+        return applyAsDouble(organism);
+    }
+}
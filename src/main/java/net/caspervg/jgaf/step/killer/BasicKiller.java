@@ -2,6 +2,7 @@ package net.caspervg.jgaf.step.killer;
 
 import net.caspervg.jgaf.Arguments;
 import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
 import net.caspervg.jgaf.step.Killer;
 
 import java.util.Collection;
@@ -19,7 +20,8 @@ public class BasicKiller<O> implements Killer<O> {
      * {@inheritDoc}
      * <p>
      *     This implementation uses {@link Set#removeAll(Collection)} to remove the selected
-     *     organisms from the population. The new population will be returned
+     *     organisms from the population. The new population will be returned. If the population
+     *     is a {@link ScoredPopulation}, the new population keeps the scores of the survivors.
      * </p>
      *
      * @param arguments {@inheritDoc}
@@ -28,9 +30,28 @@ public class BasicKiller<O> implements Killer<O> {
      */
     @Override
     public Population<O> kill(Arguments arguments, Population<O> population, Collection<O> selected) {
-        Set<O> organisms = new HashSet<>(population.getAll());
+        if (population instanceof ScoredPopulation) {
+            return kill((ScoredPopulation<O>) population, selected);
+        }
+
+        Set<O> organisms = new HashSet<>(population.asList());
         organisms.removeAll(selected);
 
         return new Population.Default<>(organisms);
     }
+
+    private Population<O> kill(ScoredPopulation<O> population, Collection<O> selected) {
+        Set<O> killed = new HashSet<>(selected);
+        Set<O> survivors = new HashSet<>();
+        ScoredPopulation<O> killedPopulation = new ScoredPopulation<>(population.getFitter());
+
+        for (int i = 0; i < population.size(); i++) {
+            O organism = population.get(i);
+            if (!killed.contains(organism) && survivors.add(organism)) {
+                killedPopulation.add(organism, population.getScore(i));
+            }
+        }
+
+        return killedPopulation;
+    }
 }
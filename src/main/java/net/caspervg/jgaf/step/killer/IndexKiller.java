@@ -0,0 +1,53 @@
+package net.caspervg.jgaf.step.killer;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.step.Killer;
+
+import java.util.Collection;
+
+/**
+ * Implementation of a {@link Killer} that removes organisms by their index in the population
+ * <p>
+ *     The selected organisms are removed in place with {@link Population#remove(int...)}, without
+ *     hashing the organisms or building a new population. Organisms that are equal to each other
+ *     are kept apart, so the population only shrinks by the number of selected indices.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class IndexKiller<O> implements Killer<O> {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation looks up the selected organisms by identity and removes them in place.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param selected {@inheritDoc}
+     * @return The same population, with the selected organisms removed
+     */
+    @Override
+    public Population<O> kill(Arguments arguments, Population<O> population, Collection<O> selected) {
+        return kill(arguments, population, population.indicesOf(selected));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation removes the selected indices in place.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param selected {@inheritDoc}
+     * @return The same population, with the selected organisms removed
+     */
+    @Override
+    public Population<O> kill(Arguments arguments, Population<O> population, int[] selected) {
+        population.remove(selected);
+        return population;
+    }
+}
@@ -0,0 +1,146 @@
+package net.caspervg.jgaf.step.mutator;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.MutableMutator;
+import net.caspervg.jgaf.step.Mutator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of a {@link Mutator} that mutates a collection of children on a {@link ForkJoinPool}
+ * <p>
+ *     The children are copied into an array, which is split into chunks of consecutive children. Every chunk
+ *     is mutated by a single task, which writes the mutated children back into its own part of the array,
+ *     so the tasks share nothing while they run and the children keep their order. A {@link MutableMutator}
+ *     returns the child it was given, so children that are mutated in place are not copied.
+ * </p>
+ * <p>
+ *     Every child gets its own stream of random numbers, split from {@link Arguments#random()} before any
+ *     task starts. With a seeded source of random numbers, the mutations do not depend on the size of the
+ *     pool or the order in which the tasks run. The mutator is called from several threads at once, so it
+ *     needs to be thread-safe and should use the random numbers of the arguments it is given.
+ * </p>
+ * <p>
+ *     Only {@link Mutator#mutate(Arguments, Object)} of the wrapped mutator is called, once per child. If the
+ *     wrapped mutator overrides {@link Mutator#mutate(Arguments, Collection)}, for example to mutate the
+ *     children as a whole, that override is bypassed. Only wrap mutators that mutate every child on its own.
+ * </p>
+ * <p>
+ *     A single child is mutated on the calling thread. This pays off when mutating is expensive, for example
+ *     when the children need to be repaired. For cheap mutators, the mutator itself is usually faster.
+ * </p>
+ *
+ * @param <O> Type of the organism
+ */
+public class ParallelMutator<O> implements Mutator<O> {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private Mutator<O> mutator;
+    private ForkJoinPool pool;
+
+    private ParallelMutator() {
+        // We need a mutator
+    }
+
+    /**
+     * Creates a new parallel mutator that mutates on the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param mutator Mutator to mutate every child with
+     */
+    public ParallelMutator(Mutator<O> mutator) {
+        this(mutator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new parallel mutator
+     *
+     * @param mutator Mutator to mutate every child with
+     * @param pool Pool to mutate on. The pool will not be shut down by the mutator.
+     */
+    public ParallelMutator(Mutator<O> mutator, ForkJoinPool pool) {
+        this.mutator = mutator;
+        this.pool = pool;
+    }
+
+    @Override
+    public O mutate(Arguments arguments, O child) {
+        return mutator.mutate(arguments, child);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation mutates chunks of children in parallel, calling the single child
+     *     {@link Mutator#mutate(Arguments, Object)} of the wrapped mutator for every child.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param children {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<O> mutate(Arguments arguments, Collection<O> children) {
+        O[] organisms = (O[]) children.toArray();
+        RandomSource random = arguments.random();
+        RandomSource[] randoms = new RandomSource[organisms.length];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = random.split();
+        }
+
+        int chunks = Math.max(1, Math.min(organisms.length, pool.getParallelism() * CHUNKS_PER_THREAD));
+        int chunkSize = (organisms.length + chunks - 1) / chunks;
+        List<Chunk> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < organisms.length; from += chunkSize) {
+            tasks.add(new Chunk(arguments, randoms, organisms, from, Math.min(from + chunkSize, organisms.length)));
+        }
+
+        if (tasks.size() == 1) {
+            tasks.get(0).compute();
+        } else if (!tasks.isEmpty()) {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        return Arrays.asList(organisms);
+    }
+
+    /**
+     * Mutates the children {@code [from, to)}, with a stream of random numbers per child
+     */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Arguments arguments;
+        private final RandomSource[] randoms;
+        private final O[] organisms;
+        private final int from;
+        private final int to;
+
+        Chunk(Arguments arguments, RandomSource[] randoms, O[] organisms, int from, int to) {
+            this.arguments = arguments;
+            this.randoms = randoms;
+            this.organisms = organisms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                organisms[i] = mutator.mutate(arguments.withRandom(randoms[i]), organisms[i]);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ public class BasicProvider<F extends Number & Comparable, O> implements Provider
 
     private Breeder<O> breeder;
     private Creator<O> creator;
+    private Crosser<O> crosser;
     private Fitter<F, O> fitter;
     private Killer<O> killer;
     private Mutator<O> mutator;
@@ -23,7 +24,20 @@ public class BasicProvider<F extends Number & Comparable, O> implements Provider
                          Selector<O> selector,
                          Optimizer<F, O> optimizer,
                          Goal goal) {
+        this(creator, breeder, null, mutator, killer, fitter, selector, optimizer, goal);
+    }
+
+    public BasicProvider(Creator<O> creator,
+                         Breeder<O> breeder,
+                         Crosser<O> crosser,
+                         Mutator<O> mutator,
+                         Killer<O> killer,
+                         Fitter<F, O> fitter,
+                         Selector<O> selector,
+                         Optimizer<F, O> optimizer,
+                         Goal goal) {
         this.creator = creator;
+        this.crosser = crosser;
         this.breeder = breeder;
         this.mutator = mutator;
         this.killer = killer;
@@ -43,6 +57,14 @@ public class BasicProvider<F extends Number & Comparable, O> implements Provider
         return breeder;
     }
 
+    @Override
+    public Crosser<O> crosser() {
+        if (crosser == null) {
+            return Provider.super.crosser();
+        }
+        return crosser;
+    }
+
     @Override
     public Mutator<O> mutator() {
         return mutator;
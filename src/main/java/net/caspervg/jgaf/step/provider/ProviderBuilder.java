@@ -4,6 +4,7 @@ import net.caspervg.jgaf.Goal;
 import net.caspervg.jgaf.Optimizer;
 import net.caspervg.jgaf.OptimizerFactory;
 import net.caspervg.jgaf.step.*;
+import net.caspervg.jgaf.step.fitter.CachingFitter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -78,6 +79,33 @@ public class ProviderBuilder<F extends Number & Comparable, O> {
         return this;
     }
 
+    /**
+     * Decorates the current fitter with a {@link CachingFitter} that keys organisms by equality.
+     * Call this before creating any step that needs a fitter, so that all of them share the cache.
+     *
+     * @param maximumSize Maximum number of fitness values to remember
+     * @return This builder
+     */
+    public ProviderBuilder<F, O> withFitterCache(int maximumSize) {
+        return withFitterCache(maximumSize, CachingFitter.Keys.EQUALITY);
+    }
+
+    /**
+     * Decorates the current fitter with a {@link CachingFitter}.
+     * Call this before creating any step that needs a fitter, so that all of them share the cache.
+     *
+     * @param maximumSize Maximum number of fitness values to remember
+     * @param keys Strategy used to key organisms in the cache
+     * @return This builder
+     */
+    public ProviderBuilder<F, O> withFitterCache(int maximumSize, CachingFitter.Keys keys) {
+        if (this.fitter == null) {
+            throw new IllegalStateException("Need to have a fitter before adding a cache");
+        }
+
+        return withFitter(new CachingFitter<>(fitter, maximumSize, keys));
+    }
+
     public ProviderBuilder<F, O> withFitterFactory(StepFactory<? extends Fitter<F, O>, O> factory, List<Object> parameters) {
         return withFitter(factory.newInstance(parameters.toArray()));
     }
@@ -160,6 +188,7 @@ public class ProviderBuilder<F extends Number & Comparable, O> {
     public Provider<F, O> build() {
         return new BasicProvider<>(creator,
                 breeder,
+                crosser,
                 mutator,
                 killer,
                 fitter,
@@ -1,52 +1,90 @@
 package net.caspervg.jgaf.step.selector;
 
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
+import net.caspervg.jgaf.step.BatchFitter;
 import net.caspervg.jgaf.step.Fitter;
 import net.caspervg.jgaf.step.Selector;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 abstract class AbstractSelector<O> implements Selector<O> {
 
     protected Fitter<?, O> fitter;
-    protected Random random;
 
     public AbstractSelector(Fitter<?, O> fitter) {
         this.fitter = fitter;
-        this.random = new Random();
     }
 
-    double calculateTotalFitness(List<Double> fitnesses) {
+    List<O> organismsAt(Population<O> population, int[] indices) {
+        List<O> organisms = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            organisms.add(population.get(index));
+        }
+        return organisms;
+    }
+
+    double calculateTotalFitness(double[] fitnesses) {
         double totalFitness = 0;
-        for (Double fitness : fitnesses) {
+        for (double fitness : fitnesses) {
             totalFitness += fitness;
         }
         return totalFitness;
     }
 
-    List<Double> calculateAbsoluteFitnesses(List<O> population) {
-        List<Double> absoluteFitnesses = new ArrayList<>(population.size());
-        for (O o : population) {
-            absoluteFitnesses.add(fitter.calculate(o).doubleValue());
+    double calculateFitness(Population<O> population, int index) {
+        if (population instanceof ScoredPopulation) {
+            return ((ScoredPopulation<O>) population).getScore(index);
         }
-        return absoluteFitnesses;
+        return fitter.calculateDouble(population.get(index));
     }
 
-    List<Double> calculateNormalizedFitnesses(List<Double> fitnesses, double totalFitness) {
-        List<Double> normalizedFitnesses = new ArrayList<>(fitnesses.size());
-        for (Double fitness: fitnesses) {
-            normalizedFitnesses.add(fitness / totalFitness);
+    double[] calculateAbsoluteFitnesses(Population<O> population) {
+        if (population instanceof ScoredPopulation) {
+            return ((ScoredPopulation<O>) population).getScores();
+        }
+
+        return BatchFitter.of(fitter).calculateAll(population.asList());
+    }
+
+    /**
+     * Turns fitness values into non-negative selection weights under the given goal.
+     * If the goal prefers higher fitness, the weights are the fitness values themselves. Otherwise,
+     * the fitness values are mirrored around the middle of their range, so the lowest fitness gets the
+     * highest weight. Weights are shifted up if any of them would be negative.
+     */
+    double[] calculateWeights(double[] fitnesses, Goal goal) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double fitness : fitnesses) {
+            min = Math.min(min, fitness);
+            max = Math.max(max, fitness);
+        }
+
+        boolean higherIsBetter = goal.better(1.0, 0.0);
+        double[] weights = new double[fitnesses.length];
+        double lowest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < fitnesses.length; i++) {
+            weights[i] = higherIsBetter ? fitnesses[i] : (max + min) - fitnesses[i];
+            lowest = Math.min(lowest, weights[i]);
+        }
+
+        if (lowest < 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] -= lowest;
+            }
         }
-        return normalizedFitnesses;
+        return weights;
     }
 
-    List<Double> calculateAccumulatedFitnesses(List<Double> normalizedFitnesses) {
-        List<Double> accumulatedFitnesses = new ArrayList<>(normalizedFitnesses.size());
+    double[] calculateAccumulatedFitnesses(double[] fitnesses) {
+        double[] accumulatedFitnesses = new double[fitnesses.length];
         double accumulator = 0.0;
-        for (Double fitness : normalizedFitnesses) {
-            accumulator += fitness;
-            accumulatedFitnesses.add(accumulator);
+        for (int i = 0; i < fitnesses.length; i++) {
+            accumulator += fitnesses[i];
+            accumulatedFitnesses[i] = accumulator;
         }
 
         return accumulatedFitnesses;
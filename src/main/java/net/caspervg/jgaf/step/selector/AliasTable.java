@@ -0,0 +1,76 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.RandomSource;
+
+
+/**
+ * Table for sampling indices proportionate to their weight, with replacement.
+ * <p>
+ *     Uses Vose's alias method: building the table is O(n), and every sample is O(1).
+ * </p>
+ */
+final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    AliasTable(double[] weights) {
+        int size = weights.length;
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            // Without any weight, every index gets an equal chance
+            scaled[i] = total > 0 ? weights[i] * size / total : 1;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left over only differs from 1 by rounding errors
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Samples an index
+     *
+     * @param random Source of randomness
+     * @return Index that was picked
+     */
+    int sample(RandomSource random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
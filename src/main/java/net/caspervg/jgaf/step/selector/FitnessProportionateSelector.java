@@ -3,15 +3,33 @@ package net.caspervg.jgaf.step.selector;
 import net.caspervg.jgaf.Arguments;
 import net.caspervg.jgaf.Goal;
 import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
 import net.caspervg.jgaf.step.Fitter;
-import net.caspervg.jgaf.step.Selector;
 
 import java.util.*;
 
 public class FitnessProportionateSelector<O> extends AbstractSelector<O> {
 
+    private boolean replacement;
+
+    /**
+     * Creates a new fitness proportionate selector that never selects the same organism twice
+     *
+     * @param fitter Fitter to calculate the fitness with
+     */
     public FitnessProportionateSelector(Fitter<?, O> fitter) {
+        this(fitter, false);
+    }
+
+    /**
+     * Creates a new fitness proportionate selector
+     *
+     * @param fitter Fitter to calculate the fitness with
+     * @param replacement {@code true} if the same organism may be selected more than once
+     */
+    public FitnessProportionateSelector(Fitter<?, O> fitter, boolean replacement) {
         super(fitter);
+        this.replacement = replacement;
     }
 
     /**
@@ -29,50 +47,49 @@ public class FitnessProportionateSelector<O> extends AbstractSelector<O> {
      */
     @Override
     public Collection<O> select(Arguments arguments, Population<O> population, Goal goal) {
-        List<O> organisms = new ArrayList<>(population.getAll());
-
-        List<Double> fitnesses = calculateAbsoluteFitnesses(organisms);
-        double totalFitness = calculateTotalFitness(fitnesses);
-        List<Double> probabilities = calculateNormalizedFitnesses(fitnesses, totalFitness);
-        List<Double> accumulateds = calculateAccumulatedFitnesses(probabilities);
-
-        List<SelectionItem> selections = new ArrayList<>();
-        for (int i = 0; i < population.size(); i++) {
-            selections.add(new SelectionItem(
-                    i,
-                    probabilities.get(i),
-                    accumulateds.get(i)
-            ));
-        }
-        Collections.sort(selections, goal.opposite()::compare);
-
-        List<O> selected = new ArrayList<>(arguments.breedingPoolSize());
-        for (int i = 0; i < arguments.breedingPoolSize(); i++) {
-            selected.add(organisms.get(spinRoulette(selections)));
-        }
-
-        return selected;
+        return organismsAt(population, selectIndices(arguments, population, goal));
     }
 
-    private int spinRoulette(List<SelectionItem> selections) {
-        double maxFitness;
-        double first = selections.get(0).accumulatedFitness;
-        double last = selections.get(selections.size() - 1).accumulatedFitness;
-        if (first > last) {
-            maxFitness = first;
-        } else {
-            maxFitness = last;
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The chance of an organism to be selected is proportionate to its fitness if the goal prefers
+     *     higher fitness values, and to its fitness mirrored around the middle of the fitness range
+     *     otherwise.
+     * </p>
+     * <p>
+     *     Without replacement, the wheel is a tree of cumulative weights that is searched and updated in
+     *     O(log n) per spin. With replacement, an alias table is built once and every spin is O(1).
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param goal {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int[] selectIndices(Arguments arguments, Population<O> population, Goal goal) {
+        if (population.size() == 0) {
+            return new int[0];
         }
 
-        double roulette = random.nextDouble() * maxFitness;
+        RandomSource random = arguments.random();
+        double[] weights = calculateWeights(calculateAbsoluteFitnesses(population), goal);
 
-        for (SelectionItem selectionItem : selections) {
-            if (selectionItem.getAccumulatedFitness() > roulette) {
-                selections.remove(selectionItem);
-                return selectionItem.getIndex();
+        if (replacement) {
+            AliasTable table = new AliasTable(weights);
+            int[] selected = new int[arguments.breedingPoolSize()];
+            for (int i = 0; i < selected.length; i++) {
+                selected[i] = table.sample(random);
             }
+            return selected;
         }
 
-        throw new AssertionError("This should never happen");
+        RouletteWheel wheel = new RouletteWheel(weights);
+        int[] selected = new int[Math.min(arguments.breedingPoolSize(), population.size())];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = wheel.spin(random);
+        }
+        return selected;
     }
 }
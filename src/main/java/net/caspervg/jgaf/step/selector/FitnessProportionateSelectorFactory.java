@@ -8,7 +8,13 @@ public class FitnessProportionateSelectorFactory<O> extends AbstractSelectorFact
     @Override
     public FitnessProportionateSelector<O> newInstance(Object... arguments) {
         super.newInstance(arguments);
-        return new FitnessProportionateSelector<>((Fitter<?, O>) arguments[0]);
+
+        boolean replacement = false;
+        if (arguments.length > 1 && arguments[1] instanceof Boolean) {
+            replacement = (boolean) arguments[1];
+        }
+
+        return new FitnessProportionateSelector<>((Fitter<?, O>) arguments[0], replacement);
     }
 
 }
@@ -0,0 +1,110 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.RandomSource;
+
+
+/**
+ * Roulette wheel for sampling indices proportionate to their weight, without replacement.
+ * <p>
+ *     The weights are kept in a Fenwick tree (binary indexed tree) of cumulative sums, so both
+ *     spinning the wheel and taking an index off the wheel are O(log n).
+ * </p>
+ */
+final class RouletteWheel {
+
+    private final double[] weights;
+    private final boolean[] taken;
+    private final double[] tree;
+    private final int highestStep;
+    private int remaining;
+
+    RouletteWheel(double[] weights) {
+        this.weights = weights.clone();
+        this.taken = new boolean[weights.length];
+        this.tree = new double[weights.length + 1];
+        this.highestStep = weights.length == 0 ? 0 : Integer.highestOneBit(weights.length);
+        this.remaining = weights.length;
+        build();
+    }
+
+    /**
+     * Spins the wheel and takes the index it lands on off the wheel
+     *
+     * @param random Source of randomness
+     * @return Index that was picked
+     */
+    int spin(RandomSource random) {
+        if (remaining == 0) {
+            throw new IllegalStateException("No more indices on the roulette wheel");
+        }
+
+        double total = prefixSum(weights.length);
+        if (total <= 0) {
+            // Only indices without weight are left, give them an equal chance
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = taken[i] ? 0 : 1;
+            }
+            build();
+            total = remaining;
+        }
+
+        int index = find(random.nextDouble() * total);
+        take(index);
+        return index;
+    }
+
+    private int find(double target) {
+        int position = 0;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= weights.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+
+        // Rounding errors can push the target past the last index that still has weight
+        int index = Math.min(position, weights.length - 1);
+        while (index > 0 && !hasWeight(index)) {
+            index--;
+        }
+        while (!hasWeight(index)) {
+            index++;
+        }
+        return index;
+    }
+
+    private void take(int index) {
+        double weight = weights[index];
+        weights[index] = 0;
+        taken[index] = true;
+        remaining--;
+        for (int i = index + 1; i <= weights.length; i += i & -i) {
+            tree[i] -= weight;
+        }
+    }
+
+    private boolean hasWeight(int index) {
+        return !taken[index] && weights[index] > 0;
+    }
+
+    private double prefixSum(int end) {
+        double sum = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void build() {
+        for (int i = 1; i <= weights.length; i++) {
+            tree[i] = weights[i - 1];
+        }
+        for (int i = 1; i <= weights.length; i++) {
+            int parent = i + (i & -i);
+            if (parent <= weights.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
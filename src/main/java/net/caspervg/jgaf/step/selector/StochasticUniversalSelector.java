@@ -0,0 +1,88 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.step.Fitter;
+
+import java.util.Collection;
+
+public class StochasticUniversalSelector<O> extends AbstractSelector<O> {
+
+    public StochasticUniversalSelector(Fitter<?, O> fitter) {
+        super(fitter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation uses <b>stochastic universal sampling</b>, a variant of fitness proportionate
+     *     selection that spins the roulette wheel only once, with evenly spaced pointers for all the
+     *     organisms that have to be selected. For more information about this algorithm, read
+     *     <a href='http://en.wikipedia.org/wiki/Stochastic_universal_sampling'>this Wikipedia article</a>
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param goal {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Collection<O> select(Arguments arguments, Population<O> population, Goal goal) {
+        return organismsAt(population, selectIndices(arguments, population, goal));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The weights are the same as in {@link FitnessProportionateSelector}. An organism with a large
+     *     weight can be selected more than once. The pointers walk the cumulative weights once, so the
+     *     selection is O(n + k). The selected indices are shuffled afterwards, so that neighbouring
+     *     selections do not always come from neighbouring organisms.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param goal {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int[] selectIndices(Arguments arguments, Population<O> population, Goal goal) {
+        int count = arguments.breedingPoolSize();
+        if (population.size() == 0 || count == 0) {
+            return new int[0];
+        }
+
+        RandomSource random = arguments.random();
+        double[] weights = calculateWeights(calculateAbsoluteFitnesses(population), goal);
+        double totalWeight = calculateTotalFitness(weights);
+        if (totalWeight <= 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = 1;
+            }
+            totalWeight = weights.length;
+        }
+        double[] accumulated = calculateAccumulatedFitnesses(weights);
+
+        double distance = totalWeight / count;
+        double pointer = random.nextDouble() * distance;
+
+        int[] selected = new int[count];
+        int index = 0;
+        for (int i = 0; i < count; i++, pointer += distance) {
+            while (index < accumulated.length - 1 && accumulated[index] <= pointer) {
+                index++;
+            }
+            selected[i] = index;
+        }
+
+        for (int i = count - 1; i > 0; i--) {
+            int other = random.nextInt(i + 1);
+            int swap = selected[i];
+            selected[i] = selected[other];
+            selected[other] = swap;
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,14 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.step.Fitter;
+
+public class StochasticUniversalSelectorFactory<O> extends AbstractSelectorFactory<O> {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StochasticUniversalSelector<O> newInstance(Object... arguments) {
+        super.newInstance(arguments);
+        return new StochasticUniversalSelector<>((Fitter<?, O>) arguments[0]);
+    }
+
+}
@@ -3,6 +3,8 @@ package net.caspervg.jgaf.step.selector;
 import net.caspervg.jgaf.Arguments;
 import net.caspervg.jgaf.Goal;
 import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.ScoredPopulation;
 import net.caspervg.jgaf.step.Fitter;
 
 import java.util.*;
@@ -10,45 +12,149 @@ import java.util.*;
 public class TournamentSelector<O> extends AbstractSelector<O> {
 
     private int tournamentSize;
+    private boolean replacement;
+    private double winProbability;
 
+    /**
+     * Creates a new deterministic tournament selector, in which every participant enters a tournament
+     * at most once
+     *
+     * @param fitter Fitter to calculate the fitness with
+     * @param tournamentSize Number of participants in every tournament
+     */
     public TournamentSelector(Fitter<?, O> fitter, int tournamentSize) {
+        this(fitter, tournamentSize, false, 1.0);
+    }
+
+    /**
+     * Creates a new tournament selector
+     *
+     * @param fitter Fitter to calculate the fitness with
+     * @param tournamentSize Number of participants in every tournament
+     * @param replacement {@code true} if the participants of a tournament are drawn with replacement,
+     *                    so the same organism can enter the same tournament more than once
+     * @param winProbability Chance that the best participant wins the tournament. If it does not, the
+     *                       second best wins with the same chance, and so on. Use {@code 1.0} for a
+     *                       deterministic tournament.
+     */
+    public TournamentSelector(Fitter<?, O> fitter, int tournamentSize, boolean replacement, double winProbability) {
         super(fitter);
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size should be at least 1");
+        }
+        if (winProbability <= 0 || winProbability > 1) {
+            throw new IllegalArgumentException("Win probability should be in (0, 1]");
+        }
+
         this.tournamentSize = tournamentSize;
+        this.replacement = replacement;
+        this.winProbability = winProbability;
     }
 
     @Override
     public Collection<O> select(Arguments arguments, Population<O> population, Goal goal) {
-        List<O> organisms = new ArrayList<>(population.getAll());
+        return organismsAt(population, selectIndices(arguments, population, goal));
+    }
 
-        List<O> selected = new ArrayList<>(arguments.breedingPoolSize());
-        for (int i = 0; i < arguments.breedingPoolSize(); i++) {
-            int tournamentWinnerIndex = doTournament(organisms, goal);
-            selected.add(organisms.get(tournamentWinnerIndex));
-            organisms.remove(tournamentWinnerIndex);    // No double selections
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     This implementation runs a tournament for every organism that has to be selected. Candidates
+     *     are kept in a pool of indices, and a winner is taken out of the pool by swapping it with the
+     *     last candidate, so no organism is selected twice.
+     * </p>
+     * <p>
+     *     Participants are drawn with a partial Fisher-Yates shuffle of the front of the pool, or
+     *     uniformly from the pool when drawing with replacement, so a tournament allocates nothing. The
+     *     fitness of a participant is read from the population if it is a {@link ScoredPopulation}, and
+     *     calculated at most once per selection otherwise.
+     * </p>
+     *
+     * @param arguments {@inheritDoc}
+     * @param population {@inheritDoc}
+     * @param goal {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int[] selectIndices(Arguments arguments, Population<O> population, Goal goal) {
+        int[] available = new int[population.size()];
+        for (int i = 0; i < available.length; i++) {
+            available[i] = i;
+        }
+        int remaining = available.length;
+
+        double[] fitnesses = scores(population);
+        int[] participants = new int[tournamentSize];
+        RandomSource random = arguments.random();
+
+        int[] selected = new int[Math.min(arguments.breedingPoolSize(), remaining)];
+        for (int i = 0; i < selected.length; i++) {
+            int tournamentWinner = doTournament(population, fitnesses, available, remaining, participants, goal, random);
+            selected[i] = available[tournamentWinner];
+            available[tournamentWinner] = available[--remaining];    // No double selections
         }
 
         return selected;
     }
 
-    private int doTournament(List<O> organisms, Goal goal) {
-        Set<Integer> participantIndices = new HashSet<>();
+    private int doTournament(Population<O> population, double[] fitnesses, int[] available, int remaining,
+                             int[] participants, Goal goal, RandomSource random) {
+        int count = replacement ? participants.length : Math.min(participants.length, remaining);
 
-        while (participantIndices.size() < tournamentSize) {
-            int rand = random.nextInt(organisms.size());
-            participantIndices.add(rand);
+        for (int i = 0; i < count; i++) {
+            if (replacement) {
+                participants[i] = random.nextInt(remaining);
+            } else {
+                // Partial Fisher-Yates: the participants end up at the front of the pool
+                int other = i + random.nextInt(remaining - i);
+                int swap = available[i];
+                available[i] = available[other];
+                available[other] = swap;
+                participants[i] = i;
+            }
         }
 
-        double bestParticipantFitness = goal.worst(Double.MIN_VALUE, Double.MAX_VALUE); // Start with the worst possible value as a temporary best fitness
-        int bestParticipantIndex = -1;
-        for (Integer index : participantIndices) {
-            O participant = organisms.get(index);
-            double participantFitness = fitter.calculate(participant).doubleValue();
-            if (goal.better(participantFitness, bestParticipantFitness)) {
-                bestParticipantFitness = participantFitness;
-                bestParticipantIndex = index;
+        for (int rank = 0; rank < count; rank++) {
+            int best = rank;
+            double bestFitness = fitness(population, fitnesses, available[participants[rank]]);
+            for (int i = rank + 1; i < count; i++) {
+                double participantFitness = fitness(population, fitnesses, available[participants[i]]);
+                if (goal.better(participantFitness, bestFitness)) {
+                    bestFitness = participantFitness;
+                    best = i;
+                }
             }
+
+            if (rank == count - 1 || winProbability >= 1 || random.nextDouble() < winProbability) {
+                return participants[best];
+            }
+
+            // The best participant lost, move it out of the way and let the others compete
+            int swap = participants[rank];
+            participants[rank] = participants[best];
+            participants[best] = swap;
         }
 
-        return bestParticipantIndex;
+        throw new AssertionError("This should never happen");
+    }
+
+    private double[] scores(Population<O> population) {
+        if (population instanceof ScoredPopulation) {
+            return null;
+        }
+
+        double[] fitnesses = new double[population.size()];
+        Arrays.fill(fitnesses, Double.NaN);
+        return fitnesses;
+    }
+
+    private double fitness(Population<O> population, double[] fitnesses, int index) {
+        if (fitnesses == null) {
+            return calculateFitness(population, index);
+        }
+        if (Double.isNaN(fitnesses[index])) {
+            fitnesses[index] = calculateFitness(population, index);
+        }
+        return fitnesses[index];
     }
 }
@@ -14,7 +14,17 @@ public class TournamentSelectorFactory<O> extends AbstractSelectorFactory<O> {
             tournamentSize = (int) arguments[1];
         }
 
-        return new TournamentSelector<>((Fitter<?, O>) arguments[0], tournamentSize);
+        boolean replacement = false;
+        if (arguments.length > 2 && arguments[2] instanceof Boolean) {
+            replacement = (boolean) arguments[2];
+        }
+
+        double winProbability = 1.0;
+        if (arguments.length > 3 && arguments[3] instanceof Double) {
+            winProbability = (double) arguments[3];
+        }
+
+        return new TournamentSelector<>((Fitter<?, O>) arguments[0], tournamentSize, replacement, winProbability);
     }
 
 }
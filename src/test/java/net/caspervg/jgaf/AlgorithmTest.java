@@ -1,45 +1,462 @@
 package net.caspervg.jgaf;
 
+import net.caspervg.jgaf.checkpoint.Checkpoint;
+import net.caspervg.jgaf.checkpoint.Checkpointer;
+import net.caspervg.jgaf.checkpoint.OrganismCodec;
+import net.caspervg.jgaf.metrics.GenerationListener;
+import net.caspervg.jgaf.metrics.GenerationStatistics;
+import net.caspervg.jgaf.metrics.HistogramRecorder;
+import net.caspervg.jgaf.metrics.Phase;
+import net.caspervg.jgaf.step.AsyncFitter;
+import net.caspervg.jgaf.step.Crosser;
+import net.caspervg.jgaf.step.Fitter;
+import net.caspervg.jgaf.step.Killer;
 import net.caspervg.jgaf.step.Provider;
+import net.caspervg.jgaf.step.StepFactory;
 import net.caspervg.jgaf.step.breeder.BasicBreederFactory;
 import net.caspervg.jgaf.step.killer.BasicKillerFactory;
+import net.caspervg.jgaf.step.killer.IndexKillerFactory;
 import net.caspervg.jgaf.step.provider.ProviderBuilder;
 import net.caspervg.jgaf.step.selector.TournamentSelectorFactory;
 import org.junit.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Random;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class AlgorithmTest {
 
+    // Generations at which the runs of the termination tests, seeded with 11, stop
+    private static final int TARGET_GENERATION = 41;
+    private static final int STAGNATION_GENERATION = 161;
+    private static final int BUDGET_GENERATION = 40;
+
+    private static final String optimum = "1111000000000000000000000000000000000000000000000000000000001111";
+
     @Test
     public void testAlgorithm() throws Exception {
-        String optimum = "1111000000000000000000000000000000000000000000000000000000001111";
+        Solution<String> solution = new GeneticAlgorithm.Default<String>().run(new Arguments.Default(), provider());
 
-        Provider<Integer, String> provider = ProviderBuilder.<Integer, String>aProvider()
-                .withGoal(new Goal.Maximum())
-                .withFitter(organism -> {
-                    if (organism.length() != optimum.length()) return -1;
+        assertEquals(new Arguments.Default().populationSize(), solution.getFinalPopulation().size());
 
-                    int fitness = 0;
-                    for (int i = 0; i < optimum.length(); i++) {
-                        if (organism.charAt(i) == optimum.charAt(i)) {
-                            fitness++;
-                        }
-                    }
+        System.out.println("FIT  : " + solution.getBestFitness());
+        System.out.println("BEST : " + solution.getBestOrganism());
+        System.out.println("OPTI : " + optimum);
+    }
 
-                    return fitness;
-                })
+    @Test(expected = IllegalStateException.class)
+    public void testEmptyPopulation() throws Exception {
+        Arguments arguments = new Arguments.Default() {
+            @Override
+            public int populationSize() {
+                return 0;
+            }
+        };
+        new GeneticAlgorithm.Default<String>().run(arguments, provider());
+    }
+
+    @Test
+    public void testParallelAlgorithm() throws Exception {
+        Arguments arguments = new Arguments() {
+            @Override
+            public int parallelism() {
+                return 4;
+            }
+        };
+        Solution<String> solution = new GeneticAlgorithm.Parallel<String>().run(arguments, provider());
+
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+    }
+
+    @Test
+    public void testConcurrentParallelRuns() throws Exception {
+        GeneticAlgorithm<String> algorithm = new GeneticAlgorithm.Parallel<>();
+        Solution<String> expected = algorithm.run(new Arguments.Default(5), provider());
+
+        // Runs on the same instance do not share their executor, so they can overlap
+        List<CompletableFuture<Solution<String>>> runs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            runs.add(CompletableFuture.supplyAsync(() -> algorithm.run(new Arguments.Default(5), provider())));
+        }
+        for (CompletableFuture<Solution<String>> run : runs) {
+            assertEquals(expected.getFinalPopulation().asList(), run.get().getFinalPopulation().asList());
+        }
+    }
+
+    @Test
+    public void testRecordedAlgorithm() throws Exception {
+        Arguments arguments = new Arguments() {
+            @Override
+            public int numIterations() {
+                return 50;
+            }
+        };
+        HistogramRecorder recorder = new HistogramRecorder();
+        new GeneticAlgorithm.Default<String>(recorder).run(arguments, provider());
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(arguments.numIterations() + 1, generations.size());
+        assertEquals(arguments.populationSize(), generations.get(0).getEvaluations());
+        assertEquals(1, recorder.getNanos(Phase.CREATE).getCount());
+        assertEquals(arguments.numIterations(), recorder.getNanos(Phase.KILL).getCount());
+
+        GenerationStatistics last = generations.get(generations.size() - 1);
+        assertTrue(last.getBestFitness() >= generations.get(0).getBestFitness());
+        assertTrue(last.getTotalEvaluations() > arguments.populationSize());
+    }
+
+    @Test
+    public void testElitism() throws Exception {
+        Arguments arguments = new Arguments.Default(11) {
+            @Override
+            public int numIterations() {
+                return 50;
+            }
+
+            @Override
+            public int eliteSize() {
+                return 5;
+            }
+        };
+        HistogramRecorder recorder = new HistogramRecorder();
+        Solution<String> solution = new GeneticAlgorithm.Default<String>(recorder)
+                .run(arguments, provider(new IndexKillerFactory<>()));
+
+        // The best organism is never killed, so the best fitness never goes down
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        for (int i = 1; i < generations.size(); i++) {
+            assertTrue(generations.get(i).getBestFitness() >= generations.get(i - 1).getBestFitness());
+        }
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+        assertEquals(generations.get(generations.size() - 1).getBestFitness(),
+                solution.getBestFitness().doubleValue(), 0);
+        assertTrue(solution.getFinalPopulation().asList().contains(solution.getBestOrganism()));
+    }
+
+    @Test
+    public void testRejectedDuplicates() throws Exception {
+        HistogramRecorder allowed = new HistogramRecorder();
+        new GeneticAlgorithm.Default<String>(allowed).run(duplicates(GenomeIndex.Policy.ALLOW),
+                provider(new IndexKillerFactory<>()));
+        HistogramRecorder rejected = new HistogramRecorder();
+        new GeneticAlgorithm.Default<String>(rejected).run(duplicates(GenomeIndex.Policy.REJECT),
+                provider(new IndexKillerFactory<>()));
+
+        // Without duplicates, the population stays distinct, and fewer children need to be scored
+        for (GenerationStatistics generation : rejected.getGenerations().subList(1, rejected.getGenerations().size())) {
+            assertEquals(1.0, generation.getDistinctRatio(), 0);
+        }
+        // The diversity is measured without deduplication as well
+        double ratio = last(allowed).getDistinctRatio();
+        assertTrue(ratio > 0 && ratio < 1);
+        assertTrue(last(rejected).getTotalEvaluations() < last(allowed).getTotalEvaluations());
+    }
+
+    @Test
+    public void testPenalisedDuplicates() throws Exception {
+        Arguments arguments = duplicates(GenomeIndex.Policy.PENALISE);
+        HistogramRecorder recorder = new HistogramRecorder();
+        Solution<String> solution = new GeneticAlgorithm.Default<String>(recorder)
+                .run(arguments, provider(new IndexKillerFactory<>()));
+
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+        double ratio = last(recorder).getDistinctRatio();
+        assertTrue(ratio > 0 && ratio <= 1);
+        assertEquals(new HashSet<>(solution.getFinalPopulation().asList()).size(),
+                Math.round(ratio * arguments.populationSize()));
+    }
+
+    @Test
+    public void testElitismWithBasicKiller() throws Exception {
+        Arguments arguments = new Arguments.Default(11) {
+            @Override
+            public int numIterations() {
+                return 50;
+            }
+
+            @Override
+            public int eliteSize() {
+                return 5;
+            }
+        };
+        HistogramRecorder recorder = new HistogramRecorder();
+        Solution<String> solution = new GeneticAlgorithm.Default<String>(recorder)
+                .run(arguments, provider(new BasicKillerFactory<>()));
+
+        // The killer removes organisms by equality, but the best organism still survives every generation
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        for (int i = 1; i < generations.size(); i++) {
+            assertTrue(generations.get(i).getBestFitness() >= generations.get(i - 1).getBestFitness());
+        }
+        boolean present = false;
+        for (String organism : solution.getFinalPopulation()) {
+            present |= organism == solution.getBestOrganism();
+        }
+        assertTrue(present);
+    }
+
+    @Test
+    public void testTerminatedAlgorithm() throws Exception {
+        HistogramRecorder recorder = new HistogramRecorder();
+        Arguments arguments = terminated(TerminationCondition.anyOf(
+                new TerminationCondition.TargetFitness(new Goal.Maximum(), 60),
+                new TerminationCondition.Stagnation(new Goal.Maximum(), 100)
+        ));
+        Solution<String> solution = new GeneticAlgorithm.Default<String>(recorder)
+                .run(arguments, provider(new IndexKillerFactory<>()));
+
+        // The target is reached first, so the stagnation has no say
+        assertEquals(TARGET_GENERATION, last(recorder).getGeneration());
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+    }
+
+    @Test
+    public void testTargetFitness() throws Exception {
+        HistogramRecorder recorder = new HistogramRecorder();
+        Arguments arguments = terminated(new TerminationCondition.TargetFitness(new Goal.Maximum(), 60));
+        new GeneticAlgorithm.Default<String>(recorder).run(arguments, provider(new IndexKillerFactory<>()));
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(TARGET_GENERATION, last(recorder).getGeneration());
+        assertTrue(last(recorder).getBestFitness() >= 60);
+        for (GenerationStatistics statistics : generations.subList(0, generations.size() - 1)) {
+            assertTrue(statistics.getBestFitness() < 60);
+        }
+    }
+
+    @Test
+    public void testStagnation() throws Exception {
+        HistogramRecorder recorder = new HistogramRecorder();
+        Arguments arguments = terminated(new TerminationCondition.Stagnation(new Goal.Maximum(), 100));
+        new GeneticAlgorithm.Default<String>(recorder).run(arguments, provider(new IndexKillerFactory<>()));
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(STAGNATION_GENERATION, last(recorder).getGeneration());
+        // The best fitness was last improved on exactly 100 generations before the stop
+        double best = generations.get(0).getBestFitness();
+        int improved = 0;
+        for (GenerationStatistics statistics : generations) {
+            if (statistics.getBestFitness() > best) {
+                best = statistics.getBestFitness();
+                improved = statistics.getGeneration();
+            }
+        }
+        assertEquals(STAGNATION_GENERATION - 100, improved);
+    }
+
+    @Test
+    public void testEvaluationBudget() throws Exception {
+        HistogramRecorder recorder = new HistogramRecorder();
+        Arguments arguments = terminated(new TerminationCondition.EvaluationBudget(5000));
+        new GeneticAlgorithm.Default<String>(recorder).run(arguments, provider(new IndexKillerFactory<>()));
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(BUDGET_GENERATION, last(recorder).getGeneration());
+        assertTrue(last(recorder).getTotalEvaluations() >= 5000);
+        assertTrue(generations.get(generations.size() - 2).getTotalEvaluations() < 5000);
+    }
+
+    @Test
+    public void testIslandAlgorithm() throws Exception {
+        Arguments arguments = new Arguments.Default(42) {
+            @Override
+            public int populationSize() {
+                return 100;
+            }
+
+            @Override
+            public int numIterations() {
+                return 200;
+            }
+        };
+
+        for (IslandGeneticAlgorithm.Topology topology : IslandGeneticAlgorithm.Topology.values()) {
+            HistogramRecorder recorder = new HistogramRecorder();
+            Solution<String> solution = new IslandGeneticAlgorithm<String>(4, 20, 2, topology, null, recorder)
+                    .run(arguments, provider(new IndexKillerFactory<>()));
+
+            // Migrants are shared between islands, so use a killer that does not remove duplicates
+            assertEquals(4 * arguments.populationSize(), solution.getFinalPopulation().size());
+            // The initial populations, and once after every migration interval
+            assertEquals(11, recorder.getGenerations().size());
+            assertTrue(solution.getBestFitness().intValue() >= recorder.getGenerations().get(0).getBestFitness());
+        }
+    }
+
+    @Test
+    public void testSteadyStateAlgorithm() throws Exception {
+        Arguments arguments = new Arguments.Default(7) {
+            @Override
+            public int populationSize() {
+                return 200;
+            }
+
+            @Override
+            public int numIterations() {
+                return 100;
+            }
+        };
+        HistogramRecorder recorder = new HistogramRecorder();
+        Solution<String> solution = new SteadyStateGeneticAlgorithm<String>(3, recorder).run(arguments, provider());
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+        assertEquals(arguments.numIterations() + 1, generations.size());
+        assertEquals(generations.get(generations.size() - 1).getBestFitness(),
+                solution.getBestFitness().doubleValue(), 0);
+        // Children only replace organisms that are not better, so the worst fitness never goes down
+        for (int i = 1; i < generations.size(); i++) {
+            assertTrue(generations.get(i).getWorstFitness() >= generations.get(i - 1).getWorstFitness());
+        }
+    }
+
+    @Test
+    public void testAsyncAlgorithm() throws Exception {
+        Arguments arguments = new Arguments.Default(11) {
+            @Override
+            public int populationSize() {
+                return 100;
+            }
+
+            @Override
+            public int numIterations() {
+                return 50;
+            }
+        };
+        HistogramRecorder recorder = new HistogramRecorder();
+        Solution<String> solution = new AsyncGeneticAlgorithm<String>(8, null, 2, recorder)
+                .run(arguments, provider());
+
+        assertEquals(arguments.populationSize(), solution.getFinalPopulation().size());
+        assertEquals(arguments.numIterations() + 1, recorder.getGenerations().size());
+        assertEquals(arguments.numIterations() * arguments.populationSize(),
+                recorder.getGenerations().get(arguments.numIterations()).getTotalEvaluations()
+                        - arguments.populationSize());
+    }
+
+    @Test(timeout = 10000, expected = IllegalStateException.class)
+    public void testAsyncAlgorithmWithoutFitness() throws Exception {
+        new AsyncGeneticAlgorithm<String>(8).run(new Arguments.Default(11), provider(new BasicKillerFactory<>(),
+                new NullAsyncFitter()));
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws Exception {
+        Path file = Files.createTempFile("jgaf", ".checkpoint");
+        try {
+            Arguments arguments = new Arguments.Default(3) {
+                @Override
+                public int populationSize() {
+                    return 100;
+                }
+
+                @Override
+                public int numIterations() {
+                    return 15;
+                }
+            };
+            Checkpointer<String> checkpointer = new Checkpointer<>(file, OrganismCodec.strings(), 10);
+            Solution<String> full = new GeneticAlgorithm.Default<String>(GenerationListener.NONE, checkpointer)
+                    .run(arguments, provider());
+
+            Checkpoint<String> checkpoint = checkpointer.load();
+            assertEquals(10, checkpoint.getGeneration());
+            assertTrue(checkpoint.hasRandom());
+
+            Solution<String> resumed = new GeneticAlgorithm.Default<String>()
+                    .resume(new Arguments.Delegate(arguments), provider(), checkpoint);
+            assertEquals(full.getFinalPopulation().asList(), resumed.getFinalPopulation().asList());
+            assertEquals(full.getBestFitness(), resumed.getBestFitness());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Arguments terminated(TerminationCondition condition) {
+        // With an elite and little mutation, the best fitness only goes up, and reaches the optimum of 64.
+        // Many children are copies then, so run these arguments with a killer that does not remove duplicates.
+        return new Arguments.Default(11) {
+            @Override
+            public int eliteSize() {
+                return 5;
+            }
+
+            @Override
+            public Number maximumMutationAmount() {
+                return 0.98;
+            }
+
+            @Override
+            public TerminationCondition terminationCondition() {
+                return condition;
+            }
+        };
+    }
+
+    private static Arguments duplicates(GenomeIndex.Policy policy) {
+        return new Arguments.Default(7) {
+            @Override
+            public int numIterations() {
+                return 50;
+            }
+
+            @Override
+            public Number maximumMutationAmount() {
+                // Children hardly change, so many of them are copies of their parents
+                return 0.999;
+            }
+
+            @Override
+            public GenomeIndex.Policy duplicatePolicy() {
+                return policy;
+            }
+        };
+    }
+
+    private static GenerationStatistics last(HistogramRecorder recorder) {
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        return generations.get(generations.size() - 1);
+    }
+
+    private Provider<Integer, String> provider() {
+        return provider(new BasicKillerFactory<>());
+    }
+
+    private Provider<Integer, String> provider(StepFactory<? extends Killer<String>, String> killerFactory) {
+        return provider(killerFactory, AlgorithmTest::fitness);
+    }
+
+    private static int fitness(String organism) {
+        if (organism.length() != optimum.length()) return -1;
+
+        int fitness = 0;
+        for (int i = 0; i < optimum.length(); i++) {
+            if (organism.charAt(i) == optimum.charAt(i)) {
+                fitness++;
+            }
+        }
+
+        return fitness;
+    }
+
+    private Provider<Integer, String> provider(StepFactory<? extends Killer<String>, String> killerFactory,
+                                               Fitter<Integer, String> fitter) {
+        return ProviderBuilder.<Integer, String>aProvider()
+                .withGoal(new Goal.Maximum())
+                .withFitter(fitter)
                 .withCreator(arguments -> {
                     Set<String> organisms = new HashSet<>();
                     while (organisms.size() < arguments.populationSize()) {
                         String organism = "";
                         for (int i = 0; i < optimum.length(); i++) {
-                            organism += (Math.random() > 0.5) ? "1" : "0";
+                            organism += arguments.random().nextBoolean() ? "1" : "0";
                         }
                         organisms.add(organism);
                     }
@@ -47,9 +464,8 @@ public class AlgorithmTest {
                 })
                 .withMutator((arguments, organism) -> {
                     String mutated = "";
-                    Random random = new Random();
                     for (int i = 0; i < organism.length(); i++) {
-                        if (random.nextDouble() >= arguments.maximumMutationAmount().doubleValue()) {
+                        if (arguments.random().nextDouble() >= arguments.maximumMutationAmount().doubleValue()) {
                             if (organism.charAt(i) == '1') mutated += "0";
                             else mutated += "1";
                         } else {
@@ -59,37 +475,48 @@ public class AlgorithmTest {
                     return mutated;
                 })
                 .withSelectorFactory(new TournamentSelectorFactory<>())
-                .withCrosser(parents -> {
-                    Random random = new Random();
-                    int divider = random.nextInt(parents.get(0).length());
-                    String ch1 = "";
-                    String ch2 = "";
-                    for (int i = 0; i < parents.get(0).length(); i++) {
-                        if (i < divider) {
-                            ch1 += parents.get(0).charAt(i);
-                            ch2 += parents.get(1).charAt(i);
-                        } else {
-                            ch1 += parents.get(1).charAt(i);
-                            ch2 += parents.get(0).charAt(i);
+                .withCrosser(new Crosser<String>() {
+                    @Override
+                    public List<String> cross(List<String> parents) {
+                        return cross(new Arguments.Default(), parents);
+                    }
+
+                    @Override
+                    public List<String> cross(Arguments arguments, List<String> parents) {
+                        int divider = arguments.random().nextInt(parents.get(0).length());
+                        String ch1 = "";
+                        String ch2 = "";
+                        for (int i = 0; i < parents.get(0).length(); i++) {
+                            if (i < divider) {
+                                ch1 += parents.get(0).charAt(i);
+                                ch2 += parents.get(1).charAt(i);
+                            } else {
+                                ch1 += parents.get(1).charAt(i);
+                                ch2 += parents.get(0).charAt(i);
+                            }
                         }
+                        ArrayList<String> children = new ArrayList<>(2);
+                        children.add(ch1);
+                        children.add(ch2);
+                        return children;
                     }
-                    ArrayList<String> children = new ArrayList<>(2);
-                    children.add(ch1);
-                    children.add(ch2);
-                    return children;
                 })
                 .withBreederFactory(new BasicBreederFactory<>())
-                .withKillerFactory(new BasicKillerFactory<>())
+                .withKillerFactory(killerFactory)
                 .withOptimizerFactory(new OptimizerFactory<>())
                 .build();
+    }
 
-        Solution<String> solution = new GeneticAlgorithm.Default<String>().run(new Arguments.Default(), provider);
 
-        assertEquals(new Arguments.Default().populationSize(), solution.getFinalPopulation().size());
+    private static final class NullAsyncFitter implements Fitter<Integer, String>, AsyncFitter<String> {
+        @Override
+        public Integer calculate(String organism) {
+            return fitness(organism);
+        }
 
-        System.out.println("FIT  : " + solution.getBestFitness());
-        System.out.println("BEST : " + solution.getBestOrganism());
-        System.out.println("OPTI : " + optimum);
+        @Override
+        public CompletableFuture<Double> calculateAsync(String organism) {
+            return CompletableFuture.supplyAsync(() -> null);
+        }
     }
-
 }
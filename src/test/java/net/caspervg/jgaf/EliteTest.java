@@ -0,0 +1,108 @@
+package net.caspervg.jgaf;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EliteTest {
+
+    @Test
+    public void testKeepsBestOrganisms() throws Exception {
+        RandomSource random = new RandomSource.Splittable(5);
+        List<String> organisms = new ArrayList<>();
+        double[] scores = new double[1000];
+        for (int i = 0; i < scores.length; i++) {
+            organisms.add("o" + i);
+            scores[i] = random.nextDouble();
+        }
+
+        Elite<String> elite = new Elite<>(5, new Goal.Minimum());
+        elite.offerAll(organisms, scores);
+
+        double[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        assertEquals(5, elite.size());
+        assertEquals(sorted[0], elite.bestScore(), 0);
+        for (int i = 0; i < scores.length; i++) {
+            assertEquals(scores[i] <= sorted[4], elite.contains(organisms.get(i)));
+        }
+    }
+
+    @Test
+    public void testOrganismEntersOnce() throws Exception {
+        Elite<String> elite = new Elite<>(3, new Goal.Maximum());
+        String organism = "best";
+        elite.offer(organism, 10);
+        elite.offer(organism, 10);
+
+        assertEquals(1, elite.size());
+        assertSame(organism, elite.best());
+    }
+
+    @Test
+    public void testSparesElite() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length,
+                Arrays.asList("a", "bb", "ccc", "dddd", "eeeee", "ffffff"));
+        Elite<String> elite = Elite.of(new Arguments() {
+            @Override
+            public int eliteSize() {
+                return 2;
+            }
+        }, new Goal.Maximum(), population);
+
+        int[] spared = elite.spare(population, new int[]{5, 0, 4}, new RandomSource.Splittable(1));
+
+        assertEquals(3, spared.length);
+        Set<Integer> indices = new HashSet<>();
+        for (int index : spared) {
+            assertTrue(indices.add(index));
+            assertFalse(elite.contains(population.get(index)));
+        }
+        assertTrue(indices.contains(0));
+    }
+
+    @Test
+    public void testEmptyEliteSparesNothing() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length, Arrays.asList("a", "bb"));
+        Elite<String> elite = Elite.of(new Arguments() {}, new Goal.Maximum(), population);
+        int[] conscripted = {1};
+
+        assertSame(conscripted, elite.spare(population, conscripted, new RandomSource.Splittable(1)));
+        assertEquals(0, elite.size());
+    }
+
+    @Test
+    public void testRestoreAfterKillingByEquality() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length);
+        String best = new String("best");
+        String good = new String("good");
+        population.addAll(Arrays.asList(best, good, "a", "b"), new double[]{9, 8, 1, 2});
+        Elite<String> elite = Elite.of(new Arguments.Default() {
+            @Override
+            public int eliteSize() {
+                return 2;
+            }
+        }, new Goal.Maximum(), population);
+
+        // An equal copy of "best" survives, but the elite instances themselves were killed
+        ScoredPopulation<String> killed = new ScoredPopulation<>(String::length);
+        String copy = new String("best");
+        killed.addAll(Arrays.asList(copy, "a"), new double[]{9, 1});
+        elite.restore(killed);
+
+        assertSame(copy, elite.best());
+        assertTrue(elite.contains(copy));
+        assertTrue(elite.contains(good));
+        assertEquals(Arrays.asList("best", "a", "good"), killed.asList());
+        assertEquals(8, killed.getScore(2), 0);
+    }
+}
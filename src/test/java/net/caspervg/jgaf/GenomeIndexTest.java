@@ -0,0 +1,67 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.genome.bit.BitGenome;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GenomeIndexTest {
+
+    @Test
+    public void testCountsDuplicates() throws Exception {
+        GenomeIndex<String> index = GenomeIndex.of(new Population.Default<>(Arrays.asList("a", "b", "a")));
+
+        assertEquals(3, index.size());
+        assertEquals(2, index.distinct());
+        assertEquals(2, index.count("a"));
+        assertEquals(2.0 / 3, index.distinctRatio(), 1e-12);
+
+        assertTrue(index.add("c"));
+        assertFalse(index.add("c"));
+        assertEquals(2, index.count("c"));
+
+        assertTrue(index.remove("a"));
+        assertTrue(index.contains("a"));
+        assertTrue(index.remove("a"));
+        assertFalse(index.contains("a"));
+        assertFalse(index.remove("a"));
+        assertEquals(0, index.count("a"));
+        assertEquals(3, index.size());
+        assertEquals(2, index.distinct());
+    }
+
+    @Test
+    public void testDistinctRatioOfPopulation() throws Exception {
+        assertEquals(0.75, GenomeIndex.distinctRatio(new Population.Default<>(Arrays.asList("a", "b", "c", "a"))),
+                1e-12);
+        assertTrue(Double.isNaN(GenomeIndex.distinctRatio(new Population.Default<String>())));
+    }
+
+    @Test
+    public void testEmptyIndex() throws Exception {
+        GenomeIndex<String> index = GenomeIndex.of(new Population.Default<>(Arrays.asList("a", "b")));
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertFalse(index.contains("a"));
+        assertTrue(Double.isNaN(index.distinctRatio()));
+    }
+
+    @Test
+    public void testMeanDistance() throws Exception {
+        RandomSource random = new RandomSource.Splittable(3);
+        Population<BitGenome> same = new Population.Default<>(Arrays.asList(
+                BitGenome.of("0101"), BitGenome.of("0101"), BitGenome.of("0101")));
+        Population<BitGenome> opposite = new Population.Default<>(Arrays.asList(
+                BitGenome.of("0000"), BitGenome.of("1111")));
+
+        assertEquals(0, GenomeIndex.meanDistance(same, BitGenome::hammingDistance, 50, random), 0);
+        assertEquals(4, GenomeIndex.meanDistance(opposite, BitGenome::hammingDistance, 50, random), 0);
+        assertTrue(Double.isNaN(GenomeIndex.meanDistance(new Population.Default<>(Arrays.asList(BitGenome.of("1"))),
+                BitGenome::hammingDistance, 50, random)));
+    }
+}
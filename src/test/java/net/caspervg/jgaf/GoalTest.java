@@ -87,6 +87,22 @@ public class GoalTest {
         assertTrue(minimumGoal.worseOrEqual(3.0, 2.0));
     }
 
+    @Test
+    public void testPrimitiveAgreesWithBoxed() throws Exception {
+        Goal maximumGoal = new Goal.Maximum();
+        Goal minimumGoal = new Goal.Minimum();
+        double[] values = {-1.5, 0.0, 2.0, 3.0};
+
+        for (double a : values) {
+            for (double b : values) {
+                assertEquals(maximumGoal.compare(Double.valueOf(a), Double.valueOf(b)), maximumGoal.compare(a, b));
+                assertEquals(minimumGoal.compare(Double.valueOf(a), Double.valueOf(b)), minimumGoal.compare(a, b));
+                assertEquals(maximumGoal.better(Double.valueOf(a), Double.valueOf(b)), maximumGoal.better(a, b));
+                assertEquals(minimumGoal.worse(Double.valueOf(a), Double.valueOf(b)), minimumGoal.worse(a, b));
+            }
+        }
+    }
+
     @Test
     public void testOpposite() throws Exception {
         Goal maximumGoal = new Goal.Maximum();
@@ -0,0 +1,56 @@
+package net.caspervg.jgaf;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PopulationTest {
+
+    @Test
+    public void testViewReflectsChanges() throws Exception {
+        Population<String> population = new Population.Default<>(Arrays.asList("a", "b"));
+        List<String> view = population.asList();
+        Collection<String> snapshot = population.getAll();
+
+        population.add("c");
+
+        assertEquals(Arrays.asList("a", "b", "c"), view);
+        assertEquals(2, snapshot.size());
+        assertEquals("abc", population.stream().collect(Collectors.joining()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViewIsReadOnly() throws Exception {
+        new Population.Default<>(Arrays.asList("a", "b")).asList().remove(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIteratorIsReadOnly() throws Exception {
+        Iterator<String> iterator = new Population.Default<>(Arrays.asList("a", "b")).iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        Population<String> population = new Population.Default<>(Arrays.asList("a", "b", "c", "d", "e"));
+        population.remove(3, 0, 3);
+
+        assertEquals(Arrays.asList("b", "c", "e"), population.asList());
+    }
+
+    @Test
+    public void testIndicesOf() throws Exception {
+        String duplicate = "x";
+        Population<String> population = new Population.Default<>(Arrays.asList(duplicate, "y", duplicate));
+
+        assertArrayEquals(new int[]{0, 2, 1}, population.indicesOf(Arrays.asList(duplicate, duplicate, "y")));
+    }
+}
@@ -0,0 +1,63 @@
+package net.caspervg.jgaf;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RandomSourceTest {
+
+    @Test
+    public void testSeededSourcesReproduce() throws Exception {
+        RandomSource first = new RandomSource.Splittable(42);
+        RandomSource second = new RandomSource.Splittable(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+            assertEquals(first.nextInt(17), second.nextInt(17));
+            assertEquals(first.nextDouble(), second.nextDouble(), 0.0);
+        }
+
+        RandomSource firstSplit = first.split();
+        RandomSource secondSplit = second.split();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(firstSplit.nextLong(), secondSplit.nextLong());
+        }
+    }
+
+    @Test
+    public void testSplitStreamsDiffer() throws Exception {
+        RandomSource source = new RandomSource.Splittable(42);
+        RandomSource split = source.split();
+
+        assertNotEquals(source.nextLong(), split.nextLong());
+    }
+
+    @Test
+    public void testBounds() throws Exception {
+        RandomSource source = new RandomSource.Splittable(42);
+        int[] counts = new int[10];
+        for (int i = 0; i < 100000; i++) {
+            double value = source.nextDouble();
+            assertTrue(value >= 0.0 && value < 1.0);
+            counts[source.nextInt(10)]++;
+        }
+        for (int count : counts) {
+            assertEquals(10000, count, 500);
+        }
+    }
+
+    @Test
+    public void testArgumentsCarryTheSource() throws Exception {
+        Arguments seeded = new Arguments.Default(42);
+        RandomSource other = new RandomSource.Splittable(7);
+        Arguments forked = seeded.withRandom(other);
+
+        assertTrue(seeded.random() instanceof RandomSource.Splittable);
+        assertSame(other, forked.random());
+        assertEquals(seeded.populationSize(), forked.populationSize());
+        assertSame(RandomSource.PerThread.instance(), new Arguments.Default().random());
+    }
+}
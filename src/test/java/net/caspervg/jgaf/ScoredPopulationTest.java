@@ -0,0 +1,62 @@
+package net.caspervg.jgaf;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ScoredPopulationTest {
+
+    @Test
+    public void testScoresOnInsertion() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ScoredPopulation<String> population = new ScoredPopulation<>(organism -> {
+            calls.incrementAndGet();
+            return organism.length();
+        }, Arrays.asList("a", "abc"));
+
+        population.add("ab");
+        population.add("abcd", 10.0);
+        population.addAll(Arrays.asList("x", "y"), new double[]{-1.0, -2.0});
+
+        assertEquals(3, calls.get());
+        assertEquals(6, population.size());
+        assertArrayEquals(new double[]{1.0, 3.0, 2.0, 10.0, -1.0, -2.0}, population.getScores(), 0.0);
+        assertEquals(10.0, population.getScore(3), 0.0);
+    }
+
+    @Test
+    public void testBestIndex() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length, Arrays.asList("ab", "abcd", "a"));
+
+        assertEquals(1, population.bestIndex(new Goal.Maximum()));
+        assertEquals(2, population.bestIndex(new Goal.Minimum()));
+        assertEquals(-1, new ScoredPopulation<>(String::length).bestIndex(new Goal.Maximum()));
+    }
+
+    @Test
+    public void testCopyKeepsScores() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ScoredPopulation<String> population = new ScoredPopulation<>(organism -> {
+            calls.incrementAndGet();
+            return organism.length();
+        }, Arrays.asList("a", "abc"));
+        ScoredPopulation<String> copy = new ScoredPopulation<>(population.getFitter(), population);
+
+        assertEquals(2, calls.get());
+        assertArrayEquals(population.getScores(), copy.getScores(), 0.0);
+    }
+
+    @Test
+    public void testSet() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length, Arrays.asList("ab", "abcd", "a"));
+
+        assertEquals("abcd", population.set(1, "abcdef", 6));
+        assertEquals("abcdef", population.get(1));
+        assertEquals(6, population.getScore(1), 0.0);
+        assertEquals(3, population.size());
+    }
+}
@@ -0,0 +1,74 @@
+package net.caspervg.jgaf;
+
+import net.caspervg.jgaf.metrics.GenerationStatistics;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TerminationConditionTest {
+
+    @Test
+    public void testTargetFitness() throws Exception {
+        TerminationCondition maximum = new TerminationCondition.TargetFitness(new Goal.Maximum(), 10);
+        TerminationCondition minimum = new TerminationCondition.TargetFitness(new Goal.Minimum(), 10);
+
+        assertFalse(maximum.isMet(statistics(0, 9, 1, 0, 0)));
+        assertTrue(maximum.isMet(statistics(0, 10, 1, 0, 0)));
+        assertTrue(minimum.isMet(statistics(0, 9, 1, 0, 0)));
+        assertFalse(minimum.isMet(statistics(0, 11, 1, 0, 0)));
+    }
+
+    @Test
+    public void testStagnation() throws Exception {
+        TerminationCondition condition = new TerminationCondition.Stagnation(new Goal.Maximum(), 2, 0.5);
+
+        assertFalse(condition.isMet(statistics(0, 1, 1, 0, 0)));
+        assertFalse(condition.isMet(statistics(1, 1.2, 1, 0, 0)));   // Within the tolerance
+        assertTrue(condition.isMet(statistics(2, 1.4, 1, 0, 0)));
+
+        condition.reset();
+        assertFalse(condition.isMet(statistics(0, 5, 1, 0, 0)));
+        assertFalse(condition.isMet(statistics(1, 6, 1, 0, 0)));
+        assertFalse(condition.isMet(statistics(2, 6, 1, 0, 0)));
+        assertTrue(condition.isMet(statistics(3, 6, 1, 0, 0)));
+    }
+
+    @Test
+    public void testBudgets() throws Exception {
+        TerminationCondition clock = new TerminationCondition.WallClock(1, TimeUnit.SECONDS);
+        TerminationCondition evaluations = new TerminationCondition.EvaluationBudget(100);
+
+        assertFalse(clock.isMet(statistics(0, 0, 1, 0, 999_999_999L)));
+        assertTrue(clock.isMet(statistics(0, 0, 1, 0, 1_000_000_000L)));
+        assertFalse(evaluations.isMet(statistics(0, 0, 1, 99, 0)));
+        assertTrue(evaluations.isMet(statistics(0, 0, 1, 100, 0)));
+    }
+
+    @Test
+    public void testDiversityCollapse() throws Exception {
+        TerminationCondition condition = new TerminationCondition.DiversityCollapse(0.01);
+
+        assertFalse(condition.isMet(statistics(0, 0, 1, 0, 0)));
+        assertTrue(condition.isMet(statistics(0, 0, 0.001, 0, 0)));
+    }
+
+    @Test
+    public void testAnyOf() throws Exception {
+        TerminationCondition condition = TerminationCondition.anyOf(
+                TerminationCondition.NEVER,
+                new TerminationCondition.EvaluationBudget(100)
+        );
+
+        assertFalse(condition.isMet(statistics(0, 0, 1, 50, 0)));
+        assertTrue(condition.isMet(statistics(0, 0, 1, 150, 0)));
+    }
+
+    private static GenerationStatistics statistics(int generation, double best, double standardDeviation,
+                                                   long totalEvaluations, long elapsedNanos) {
+        return new GenerationStatistics(generation, 10, 0, totalEvaluations, elapsedNanos,
+                best, best, best, standardDeviation);
+    }
+}
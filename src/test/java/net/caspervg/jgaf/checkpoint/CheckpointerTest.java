@@ -0,0 +1,83 @@
+package net.caspervg.jgaf.checkpoint;
+
+import net.caspervg.jgaf.RandomSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CheckpointerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("run.checkpoint");
+        Checkpointer<String> checkpointer = new Checkpointer<>(file, OrganismCodec.strings(), 5);
+        assertFalse(checkpointer.exists());
+
+        RandomSource.Splittable random = new RandomSource.Splittable(42);
+        random.nextLong();
+        List<String> organisms = Arrays.asList("0101", "", "h\u00e9llo");
+        checkpointer.save(new Checkpoint<>(7, 1234, organisms, new double[]{1.5, -2, Double.NaN}, random));
+
+        Checkpoint<String> loaded = checkpointer.load();
+        assertTrue(checkpointer.exists());
+        assertEquals(7, loaded.getGeneration());
+        assertEquals(1234, loaded.getEvaluations());
+        assertEquals(organisms, loaded.getOrganisms());
+        assertArrayEquals(new double[]{1.5, -2, Double.NaN}, loaded.getScores(), 0.0);
+        assertEquals(random.nextLong(), loaded.getRandom().nextLong());
+    }
+
+    @Test
+    public void testLargeOrganismsAndReplace() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("large.checkpoint");
+        Checkpointer<String> checkpointer = new Checkpointer<>(file, OrganismCodec.strings(), 1);
+
+        List<String> organisms = new ArrayList<>();
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            large.append(i % 10);
+        }
+        organisms.add(large.toString());
+        for (int i = 0; i < 10_000; i++) {
+            organisms.add(Integer.toBinaryString(i));
+        }
+        double[] scores = new double[organisms.size()];
+
+        checkpointer.save(new Checkpoint<>(1, 0, Arrays.asList("old"), new double[1], null));
+        checkpointer.save(new Checkpoint<>(2, 0, organisms, scores, null));
+
+        Checkpoint<String> loaded = checkpointer.load();
+        assertEquals(2, loaded.getGeneration());
+        assertEquals(organisms, loaded.getOrganisms());
+        assertFalse(loaded.hasRandom());
+        assertNull(loaded.getRandom());
+        assertEquals(1, Files.list(folder.getRoot().toPath()).count());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testRejectsTruncated() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("broken.checkpoint");
+        Checkpointer<String> checkpointer = new Checkpointer<>(file, OrganismCodec.strings(), 1);
+        checkpointer.save(new Checkpoint<>(1, 0, Arrays.asList("0101", "1010"), new double[2], null));
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        checkpointer.load();
+    }
+}
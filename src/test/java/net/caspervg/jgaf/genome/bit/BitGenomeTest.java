@@ -0,0 +1,148 @@
+package net.caspervg.jgaf.genome.bit;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.GeneticAlgorithm;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.OptimizerFactory;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.Solution;
+import net.caspervg.jgaf.step.breeder.BasicBreederFactory;
+import net.caspervg.jgaf.step.killer.IndexKillerFactory;
+import net.caspervg.jgaf.step.provider.ProviderBuilder;
+import net.caspervg.jgaf.step.selector.TournamentSelectorFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BitGenomeTest {
+
+    @Test
+    public void testPacking() throws Exception {
+        String bits = "1011000000000000000000000000000000000000000000000000000000000001" + "11";
+        BitGenome genome = BitGenome.of(bits);
+
+        assertEquals(66, genome.length());
+        assertEquals(bits, genome.toString());
+        assertEquals(6, genome.cardinality());
+        assertTrue(genome.get(0));
+        assertTrue(genome.get(65));
+        assertEquals(2, genome.toLongArray().length);
+        assertEquals(genome, BitGenome.of(bits));
+        assertEquals(genome.hashCode(), BitGenome.of(bits).hashCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLength() throws Exception {
+        new BitGenome(-100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRandomLength() throws Exception {
+        BitGenome.random(Integer.MIN_VALUE, new RandomSource.Splittable(1));
+    }
+
+    @Test
+    public void testRandomClearsTail() throws Exception {
+        RandomSource random = new RandomSource.Splittable(1);
+        for (int length = 1; length < 200; length++) {
+            BitGenome genome = BitGenome.random(length, random);
+            assertEquals(genome, BitGenome.of(genome.toString()));
+        }
+    }
+
+    @Test
+    public void testHamming() throws Exception {
+        BitGenome target = BitGenome.of("11110000");
+        BitGenome other = BitGenome.of("10110001");
+
+        assertEquals(2, target.hammingDistance(other));
+        assertEquals(6, new HammingFitter(target).applyAsInt(other));
+        assertEquals(8, new HammingFitter(target).calculate(target).intValue());
+    }
+
+    @Test
+    public void testMutator() throws Exception {
+        Arguments arguments = new Arguments.Default(5);
+        BitGenome genome = new BitGenome(10_000);
+
+        assertSame(genome, new BitFlipMutator(0).mutate(arguments, genome));
+        assertEquals(10_000, new BitFlipMutator(1).mutate(arguments, genome).cardinality());
+
+        int flipped = new BitFlipMutator(0.01).mutate(arguments, genome).cardinality();
+        assertTrue("Flipped " + flipped, flipped > 50 && flipped < 150);
+        assertEquals(0, genome.cardinality());
+    }
+
+    @Test
+    public void testCrossers() throws Exception {
+        Arguments arguments = new Arguments.Default(9);
+        BitGenome zeros = new BitGenome(150);
+        BitGenome ones = BitGenome.of(new String(new char[150]).replace('\0', '1'));
+
+        for (BitCrosser.Mode mode : BitCrosser.Mode.values()) {
+            for (int i = 0; i < 50; i++) {
+                List<BitGenome> children = new BitCrosser(mode).cross(arguments, Arrays.asList(zeros, ones));
+
+                assertEquals(2, children.size());
+                // Every bit comes from exactly one parent, so the children are complements of each other
+                assertEquals(150, children.get(0).hammingDistance(children.get(1)));
+                if (mode != BitCrosser.Mode.UNIFORM) {
+                    assertTrue(contiguous(children.get(0).toString(), mode == BitCrosser.Mode.ONE_POINT ? 1 : 2));
+                }
+            }
+        }
+        assertNotEquals(zeros, ones);
+    }
+
+    @Test
+    public void testAlgorithm() throws Exception {
+        BitGenome target = BitGenome.random(256, new RandomSource.Splittable(3));
+        Arguments arguments = new Arguments.Default(3) {
+            @Override
+            public int populationSize() {
+                return 200;
+            }
+
+            @Override
+            public int numIterations() {
+                return 300;
+            }
+
+            @Override
+            public Number maximumMutationAmount() {
+                return 1.0 / 256;
+            }
+        };
+
+        Solution<BitGenome> solution = new GeneticAlgorithm.Default<BitGenome>().run(arguments,
+                ProviderBuilder.<Integer, BitGenome>aProvider()
+                        .withGoal(new Goal.Maximum())
+                        .withFitter(new HammingFitter(target))
+                        .withCreator(new BitGenomeCreator(256))
+                        .withMutator(new BitFlipMutator())
+                        .withCrosser(new BitCrosser(BitCrosser.Mode.UNIFORM))
+                        .withSelectorFactory(new TournamentSelectorFactory<>())
+                        .withBreederFactory(new BasicBreederFactory<>())
+                        .withKillerFactory(new IndexKillerFactory<>())
+                        .withOptimizerFactory(new OptimizerFactory<>())
+                        .build());
+
+        assertTrue(solution.getBestFitness().intValue() > 0.9 * 256);
+    }
+
+    private static boolean contiguous(String bits, int maximumChanges) {
+        int changes = 0;
+        for (int i = 1; i < bits.length(); i++) {
+            if (bits.charAt(i) != bits.charAt(i - 1)) {
+                changes++;
+            }
+        }
+        return changes <= maximumChanges;
+    }
+}
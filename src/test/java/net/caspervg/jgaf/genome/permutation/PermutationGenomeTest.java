@@ -0,0 +1,193 @@
+package net.caspervg.jgaf.genome.permutation;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.GeneticAlgorithm;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.OptimizerFactory;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.Solution;
+import net.caspervg.jgaf.step.breeder.BasicBreederFactory;
+import net.caspervg.jgaf.step.fitter.BasicIntFitter;
+import net.caspervg.jgaf.step.killer.IndexKillerFactory;
+import net.caspervg.jgaf.step.provider.ProviderBuilder;
+import net.caspervg.jgaf.step.selector.TournamentSelectorFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PermutationGenomeTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsDuplicates() throws Exception {
+        PermutationGenome.of(0, 1, 1);
+    }
+
+    @Test
+    public void testRandomIsPermutation() throws Exception {
+        RandomSource random = new RandomSource.Splittable(1);
+        for (int size = 0; size < 50; size++) {
+            PermutationGenome genome = PermutationGenome.random(size, random);
+            assertEquals(genome, PermutationGenome.of(genome.toArray()));
+        }
+    }
+
+    @Test
+    public void testMutators() throws Exception {
+        Arguments arguments = new Arguments.Default(2) {
+            @Override
+            public Number maximumMutationAmount() {
+                return 1.0;
+            }
+        };
+        PermutationGenome genome = PermutationGenome.identity(20);
+
+        for (PermutationMutator.Mode mode : PermutationMutator.Mode.values()) {
+            for (int i = 0; i < 100; i++) {
+                PermutationGenome mutated = new PermutationMutator(mode).mutate(arguments, genome);
+                PermutationGenome.of(mutated.toArray());
+                if (mode == PermutationMutator.Mode.SWAP) {
+                    assertNotEquals(genome, mutated);
+                }
+            }
+        }
+        assertEquals(PermutationGenome.identity(20), genome);
+    }
+
+    @Test
+    public void testPartiallyMappedExample() throws Exception {
+        // Classic example with the segment fixed by a random source that always returns the same numbers
+        Arguments arguments = new Arguments.Default().withRandom(new FixedRandom(3, 6));
+        List<PermutationGenome> children = new PermutationCrosser(PermutationCrosser.Mode.PARTIALLY_MAPPED)
+                .cross(arguments, Arrays.asList(
+                        PermutationGenome.of(0, 1, 2, 3, 4, 5, 6, 7, 8),
+                        PermutationGenome.of(8, 2, 6, 7, 1, 5, 4, 0, 3)));
+
+        assertEquals(PermutationGenome.of(8, 2, 1, 3, 4, 5, 6, 0, 7), children.get(0));
+        assertEquals(PermutationGenome.of(0, 6, 2, 7, 1, 5, 4, 3, 8), children.get(1));
+    }
+
+    @Test
+    public void testOrderExample() throws Exception {
+        Arguments arguments = new Arguments.Default().withRandom(new FixedRandom(3, 6));
+        List<PermutationGenome> children = new PermutationCrosser(PermutationCrosser.Mode.ORDER)
+                .cross(arguments, Arrays.asList(
+                        PermutationGenome.of(0, 1, 2, 3, 4, 5, 6, 7, 8),
+                        PermutationGenome.of(8, 2, 6, 7, 1, 5, 4, 0, 3)));
+
+        assertEquals(PermutationGenome.of(2, 7, 1, 3, 4, 5, 6, 0, 8), children.get(0));
+    }
+
+    @Test
+    public void testCycleKeepsPositions() throws Exception {
+        PermutationGenome father = PermutationGenome.of(0, 1, 2, 3, 4, 5, 6, 7);
+        PermutationGenome mother = PermutationGenome.of(7, 2, 1, 3, 6, 5, 4, 0);
+        List<PermutationGenome> children = new PermutationCrosser(PermutationCrosser.Mode.CYCLE)
+                .cross(new Arguments.Default(), Arrays.asList(father, mother));
+
+        for (PermutationGenome child : children) {
+            for (int i = 0; i < child.size(); i++) {
+                assertTrue(child.get(i) == father.get(i) || child.get(i) == mother.get(i));
+            }
+        }
+        assertEquals(PermutationGenome.of(0, 2, 1, 3, 6, 5, 4, 7), children.get(0));
+    }
+
+    @Test
+    public void testCrossersMakePermutations() throws Exception {
+        Arguments arguments = new Arguments.Default(3);
+        for (PermutationCrosser.Mode mode : PermutationCrosser.Mode.values()) {
+            for (int i = 0; i < 200; i++) {
+                int size = 1 + i % 40;
+                List<PermutationGenome> children = new PermutationCrosser(mode).cross(arguments, Arrays.asList(
+                        PermutationGenome.random(size, arguments.random()),
+                        PermutationGenome.random(size, arguments.random())));
+
+                PermutationGenome.of(children.get(0).toArray());
+                PermutationGenome.of(children.get(1).toArray());
+            }
+        }
+    }
+
+    @Test
+    public void testAlgorithm() throws Exception {
+        Arguments arguments = new Arguments.Default(4) {
+            @Override
+            public int populationSize() {
+                return 100;
+            }
+
+            @Override
+            public int numIterations() {
+                return 300;
+            }
+
+            @Override
+            public Number maximumMutationAmount() {
+                return 0.5;
+            }
+        };
+
+        // Number of elements that are at their own index
+        BasicIntFitter<PermutationGenome> fitter = genome -> {
+            int fixed = 0;
+            for (int i = 0; i < genome.size(); i++) {
+                if (genome.get(i) == i) {
+                    fixed++;
+                }
+            }
+            return fixed;
+        };
+
+        Solution<PermutationGenome> solution = new GeneticAlgorithm.Default<PermutationGenome>().run(arguments,
+                ProviderBuilder.<Integer, PermutationGenome>aProvider()
+                        .withGoal(new Goal.Maximum())
+                        .withFitter(fitter)
+                        .withCreator(new PermutationCreator(30))
+                        .withMutator(new PermutationMutator(PermutationMutator.Mode.SWAP))
+                        .withCrosser(new PermutationCrosser(PermutationCrosser.Mode.CYCLE))
+                        .withSelectorFactory(new TournamentSelectorFactory<>())
+                        .withBreederFactory(new BasicBreederFactory<>())
+                        .withKillerFactory(new IndexKillerFactory<>())
+                        .withOptimizerFactory(new OptimizerFactory<>())
+                        .build());
+
+        assertTrue("Fitness " + solution.getBestFitness(), solution.getBestFitness().intValue() >= 20);
+    }
+
+    /**
+     * Random source that returns the same integers over and over
+     */
+    private static class FixedRandom implements RandomSource {
+        private final int[] values;
+        private int next;
+
+        FixedRandom(int... values) {
+            this.values = values;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return values[next++ % values.length];
+        }
+
+        @Override
+        public long nextLong() {
+            return 0;
+        }
+
+        @Override
+        public double nextDouble() {
+            return 0;
+        }
+
+        @Override
+        public RandomSource split() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package net.caspervg.jgaf.genome.real;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.GeneticAlgorithm;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.OptimizerFactory;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.Solution;
+import net.caspervg.jgaf.step.Crosser;
+import net.caspervg.jgaf.step.Mutator;
+import net.caspervg.jgaf.step.breeder.BasicBreederFactory;
+import net.caspervg.jgaf.step.fitter.DoubleFitter;
+import net.caspervg.jgaf.step.killer.IndexKillerFactory;
+import net.caspervg.jgaf.step.provider.ProviderBuilder;
+import net.caspervg.jgaf.step.selector.TournamentSelectorFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RealVectorGenomeTest {
+
+    private static final Bounds bounds = new Bounds(new double[]{-1, 0, 10}, new double[]{1, 5, 10});
+
+    @Test
+    public void testCreatorStaysInBounds() throws Exception {
+        Population<RealVectorGenome> population = new RealVectorCreator(bounds).create(new Arguments.Default(1));
+
+        assertEquals(new Arguments.Default().populationSize(), population.size());
+        for (RealVectorGenome genome : population) {
+            assertInBounds(genome);
+        }
+    }
+
+    @Test
+    public void testMutators() throws Exception {
+        Arguments arguments = new Arguments.Default(2) {
+            @Override
+            public Number maximumMutationAmount() {
+                return 0.5;
+            }
+        };
+        RealVectorGenome genome = RealVectorGenome.of(0, 2.5, 10);
+
+        for (Mutator<RealVectorGenome> mutator : Arrays.<Mutator<RealVectorGenome>>asList(
+                new GaussianMutator(bounds), new PolynomialMutator(bounds, 20))) {
+            for (int i = 0; i < 100; i++) {
+                RealVectorGenome mutated = mutator.mutate(arguments, genome);
+                assertNotSame(genome, mutated);
+                assertInBounds(mutated);
+            }
+        }
+        assertEquals(RealVectorGenome.of(0, 2.5, 10), genome);
+
+        RealVectorGenome copy = RealVectorGenome.of(0, 2.5, 10);
+        assertSame(copy, new GaussianMutator(bounds, true).mutate(arguments, copy));
+        assertInBounds(copy);
+        assertTrue(copy.get(0) != 0 || copy.get(1) != 2.5);
+
+        RealVectorGenome other = RealVectorGenome.of(0, 2.5, 10);
+        new PolynomialMutator(bounds, 20).mutateInPlace(arguments, other);
+        assertInBounds(other);
+        assertTrue(other.get(0) != 0 || other.get(1) != 2.5);
+    }
+
+    @Test
+    public void testCrossers() throws Exception {
+        Arguments arguments = new Arguments.Default(3);
+        List<RealVectorGenome> parents = Arrays.asList(RealVectorGenome.of(-0.5, 1, 10), RealVectorGenome.of(0.5, 4, 10));
+
+        for (Crosser<RealVectorGenome> crosser : Arrays.<Crosser<RealVectorGenome>>asList(
+                new SimulatedBinaryCrosser(bounds, 10), new BlendCrosser(bounds, 0.5))) {
+            for (int i = 0; i < 100; i++) {
+                List<RealVectorGenome> children = crosser.cross(arguments, parents);
+                assertEquals(2, children.size());
+                assertInBounds(children.get(0));
+                assertInBounds(children.get(1));
+            }
+        }
+
+        // Without clamping, SBX keeps the mean of the parents
+        List<RealVectorGenome> children = new SimulatedBinaryCrosser(Bounds.uniform(3, -100, 100), 2)
+                .cross(arguments, parents);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(parents.get(0).get(i) + parents.get(1).get(i),
+                    children.get(0).get(i) + children.get(1).get(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testAlgorithm() throws Exception {
+        Bounds sphere = Bounds.uniform(10, -5, 5);
+        Arguments arguments = new Arguments.Default(4) {
+            @Override
+            public int populationSize() {
+                return 100;
+            }
+
+            @Override
+            public int numIterations() {
+                return 200;
+            }
+
+            @Override
+            public Goal goal() {
+                return new Goal.Minimum();
+            }
+        };
+
+        Solution<RealVectorGenome> solution = new GeneticAlgorithm.Default<RealVectorGenome>().run(arguments,
+                ProviderBuilder.<Double, RealVectorGenome>aProvider()
+                        .withGoal(new Goal.Minimum())
+                        .withFitter((DoubleFitter<RealVectorGenome>) genome -> {
+                            double sum = 0;
+                            for (int i = 0; i < genome.dimension(); i++) {
+                                sum += genome.get(i) * genome.get(i);
+                            }
+                            return sum;
+                        })
+                        .withCreator(new RealVectorCreator(sphere))
+                        .withMutator(new PolynomialMutator(sphere, 20, true))
+                        .withCrosser(new SimulatedBinaryCrosser(sphere, 10))
+                        .withSelectorFactory(new TournamentSelectorFactory<>())
+                        .withBreederFactory(new BasicBreederFactory<>())
+                        .withKillerFactory(new IndexKillerFactory<>())
+                        .withOptimizerFactory(new OptimizerFactory<>())
+                        .build());
+
+        assertTrue("Fitness " + solution.getBestFitness(), solution.getBestFitness().doubleValue() < 1);
+    }
+
+    private static void assertInBounds(RealVectorGenome genome) {
+        for (int i = 0; i < genome.dimension(); i++) {
+            assertTrue(genome + " out of bounds", genome.get(i) >= bounds.lower(i) && genome.get(i) <= bounds.upper(i));
+        }
+    }
+}
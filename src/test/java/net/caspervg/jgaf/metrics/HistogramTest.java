@@ -0,0 +1,68 @@
+package net.caspervg.jgaf.metrics;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramTest {
+
+    @Test
+    public void testEmpty() throws Exception {
+        Histogram histogram = new Histogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void testRecord() throws Exception {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getTotal());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 50 && median <= 100);
+        assertEquals(100, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        Histogram first = new Histogram();
+        Histogram second = new Histogram();
+        first.record(3);
+        second.record(0);
+        second.record(1000);
+
+        first.merge(second);
+
+        assertEquals(3, first.getCount());
+        assertEquals(0, first.getMin());
+        assertEquals(1000, first.getMax());
+    }
+
+    @Test
+    public void testRecorderKeepsLastGenerations() throws Exception {
+        HistogramRecorder recorder = new HistogramRecorder(3);
+        for (int generation = 0; generation < 10; generation++) {
+            recorder.onGeneration(new GenerationStatistics(generation, 1, 1, generation + 1, 0, 0, 0, 0, 0));
+        }
+
+        List<GenerationStatistics> generations = recorder.getGenerations();
+        assertEquals(3, generations.size());
+        for (int i = 0; i < generations.size(); i++) {
+            assertEquals(7 + i, generations.get(i).getGeneration());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package net.caspervg.jgaf.step;
+
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.Optimizer;
+import net.caspervg.jgaf.ScoredPopulation;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BatchFitterTest {
+
+    private static class LengthFitter implements Fitter<Integer, String>, BatchFitter<String> {
+        int single;
+        int batches;
+
+        @Override
+        public Integer calculate(String organism) {
+            single++;
+            return organism.length();
+        }
+
+        @Override
+        public void calculateAll(List<? extends String> organisms, int from, int to, double[] fitnesses, int offset) {
+            batches++;
+            for (int i = from; i < to; i++) {
+                fitnesses[offset + i - from] = organisms.get(i).length();
+            }
+        }
+    }
+
+    @Test
+    public void testFallsBackToFitter() throws Exception {
+        Fitter<Integer, String> fitter = String::length;
+        double[] fitnesses = new double[4];
+        BatchFitter.of(fitter).calculateAll(Arrays.asList("a", "bb", "ccc"), 1, 3, fitnesses, 2);
+
+        assertArrayEquals(new double[]{0.0, 0.0, 2.0, 3.0}, fitnesses, 0.0);
+    }
+
+    @Test
+    public void testPrefersBatchFitter() throws Exception {
+        LengthFitter fitter = new LengthFitter();
+        assertSame(fitter, BatchFitter.of(fitter));
+
+        ScoredPopulation<String> population = new ScoredPopulation<>(fitter, Arrays.asList("a", "bb", "ccc"));
+        int best = new Optimizer<>(fitter, new Goal.Minimum()).bestIndex(population);
+
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, population.getScores(), 0.0);
+        assertEquals(0, best);
+        assertEquals(0, fitter.single);
+        assertEquals(1, fitter.batches);
+    }
+}
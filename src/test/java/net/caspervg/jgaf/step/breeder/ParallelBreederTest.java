@@ -0,0 +1,107 @@
+package net.caspervg.jgaf.step.breeder;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.step.Crosser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBreederTest {
+
+    private static final Crosser<String> CONCATENATE = parents -> Arrays.asList(
+            parents.get(0) + parents.get(1),
+            parents.get(1) + parents.get(0));
+
+    private static final Crosser<String> RANDOM = new Crosser<String>() {
+        @Override
+        public List<String> cross(List<String> parents) {
+            return cross(new Arguments.Default(), parents);
+        }
+
+        @Override
+        public List<String> cross(Arguments arguments, List<String> parents) {
+            return Arrays.asList(parents.get(0) + arguments.random().nextInt(1000));
+        }
+    };
+
+    @Test
+    public void testSameChildrenAsBasicBreeder() throws Exception {
+        Arguments arguments = arguments(1);
+        List<String> parents = parents(arguments.breedingPoolSize());
+        Population<String> population = new Population.Default<>(parents);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Collection<String> expected = new BasicBreeder<>(CONCATENATE).breed(arguments, population, parents);
+            Collection<String> actual = new ParallelBreeder<>(CONCATENATE, pool).breed(arguments, population, parents);
+
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(actual));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndependentOfParallelism() throws Exception {
+        List<String> parents = parents(arguments(1).breedingPoolSize());
+        Population<String> population = new Population.Default<>(parents);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            Collection<String> first = new ParallelBreeder<>(RANDOM, single).breed(arguments(7), population, parents);
+            Collection<String> second = new ParallelBreeder<>(RANDOM, many).breed(arguments(7), population, parents);
+
+            assertEquals(parents.size() / 2, first.size());
+            assertEquals(new ArrayList<>(first), new ArrayList<>(second));
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRethrowsFailure() throws Exception {
+        List<String> parents = parents(arguments(1).breedingPoolSize());
+        Crosser<String> failing = crossed -> {
+            if (crossed.get(0).equals("p50")) {
+                throw new IllegalStateException("Cannot cross");
+            }
+            return crossed;
+        };
+
+        new ParallelBreeder<>(failing).breed(arguments(1), new Population.Default<>(parents), parents);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTooFewParents() throws Exception {
+        // BasicBreeder fails on these parents as well
+        List<String> parents = parents(arguments(1).breedingPoolSize() - 2);
+
+        new ParallelBreeder<>(CONCATENATE).breed(arguments(1), new Population.Default<>(parents), parents);
+    }
+
+    private static Arguments arguments(long seed) {
+        return new Arguments.Default(seed) {
+            @Override
+            public int breedingPoolSize() {
+                return 200;
+            }
+        };
+    }
+
+    private static List<String> parents(int count) {
+        List<String> parents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parents.add("p" + i);
+        }
+        return parents;
+    }
+}
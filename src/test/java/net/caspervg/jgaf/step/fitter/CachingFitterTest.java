@@ -0,0 +1,135 @@
+package net.caspervg.jgaf.step.fitter;
+
+import net.caspervg.jgaf.step.BatchFitter;
+import net.caspervg.jgaf.step.Fitter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CachingFitterTest {
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFitter<Integer, String> fitter = new CachingFitter<>(organism -> {
+            calls.incrementAndGet();
+            return organism.length();
+        }, 10);
+
+        assertEquals(new Integer(3), fitter.calculate("abc"));
+        assertEquals(new Integer(3), fitter.calculate("abc"));
+        assertEquals(new Integer(2), fitter.calculate("ab"));
+
+        assertEquals(2, calls.get());
+        assertEquals(1, fitter.getHits());
+        assertEquals(2, fitter.getMisses());
+        assertEquals(2, fitter.size());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFitter<Integer, String> fitter = new CachingFitter<>(organism -> {
+            calls.incrementAndGet();
+            return organism.length();
+        }, 2);
+
+        fitter.calculate("a");
+        fitter.calculate("bb");
+        fitter.calculate("a");      // "a" is now the most recently used
+        fitter.calculate("ccc");    // evicts "bb"
+        fitter.calculate("a");
+
+        assertEquals(3, calls.get());
+        assertEquals(1, fitter.getEvictions());
+        assertEquals(2, fitter.size());
+
+        fitter.calculate("bb");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testIdentityKeys() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFitter<Integer, String> fitter = new CachingFitter<>(organism -> {
+            calls.incrementAndGet();
+            return organism.length();
+        }, 10, CachingFitter.Keys.IDENTITY);
+
+        String first = new String("abc");
+        String second = new String("abc");
+        fitter.calculate(first);
+        fitter.calculate(second);
+        fitter.calculate(first);
+
+        assertEquals(2, calls.get());
+        assertEquals(1, fitter.getHits());
+    }
+
+    @Test
+    public void testPrimitiveFitness() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachingFitter<Double, String> fitter = new CachingFitter<>((DoubleFitter<String>) organism -> {
+            calls.incrementAndGet();
+            return organism.length() / 2.0;
+        }, 10);
+
+        assertEquals(1.5, fitter.calculateDouble("abc"), 0);
+        assertEquals(1.5, fitter.calculateDouble("abc"), 0);
+        assertEquals(1, calls.get());
+
+        // The boxed fitness was not remembered yet, so it is calculated once
+        assertEquals(Double.valueOf(1.5), fitter.calculate("abc"));
+        assertEquals(Double.valueOf(1.5), fitter.calculate("abc"));
+        assertEquals(1.5, fitter.calculateDouble("abc"), 0);
+        assertEquals(2, calls.get());
+        assertEquals(1, fitter.size());
+    }
+
+    @Test
+    public void testBatchOfMisses() throws Exception {
+        List<Integer> batches = new ArrayList<>();
+        CachingFitter<Integer, String> fitter = new CachingFitter<>(new LengthFitter(batches), 10);
+
+        fitter.calculate("a");
+        double[] fitnesses = new double[4];
+        fitter.calculateAll(Arrays.asList("x", "a", "bb", "ccc", "a"), 1, 5, fitnesses, 0);
+
+        assertArrayEquals(new double[]{1, 2, 3, 1}, fitnesses, 0);
+        assertEquals(Collections.singletonList(2), batches);
+        assertEquals(2, fitter.getHits());
+        assertEquals(3, fitter.getMisses());
+
+        assertArrayEquals(new double[]{2, 3}, fitter.calculateAll(Arrays.asList("bb", "ccc")), 0);
+        assertEquals(Collections.singletonList(2), batches);
+    }
+
+    private static final class LengthFitter implements Fitter<Integer, String>, BatchFitter<String> {
+        private final List<Integer> batches;
+
+        LengthFitter(List<Integer> batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        public Integer calculate(String organism) {
+            return organism.length();
+        }
+
+        @Override
+        public void calculateAll(List<? extends String> organisms, int from, int to, double[] fitnesses,
+                                 int offset) {
+            batches.add(to - from);
+            for (int i = from; i < to; i++) {
+                fitnesses[offset + i - from] = organisms.get(i).length();
+            }
+        }
+    }
+}
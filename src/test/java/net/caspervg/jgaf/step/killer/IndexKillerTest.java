@@ -0,0 +1,26 @@
+package net.caspervg.jgaf.step.killer;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class IndexKillerTest {
+
+    @Test
+    public void testKeepsEqualOrganisms() throws Exception {
+        ScoredPopulation<String> population = new ScoredPopulation<>(String::length, Arrays.asList("aa", "b", "aa", "ccc", "aa"));
+
+        Population<String> killed = new IndexKiller<String>().kill(new Arguments.Default(), population, new int[]{1, 3});
+
+        assertSame(population, killed);
+        assertEquals(Arrays.asList("aa", "aa", "aa"), killed.asList());
+        assertArrayEquals(new double[]{2.0, 2.0, 2.0}, population.getScores(), 0.0);
+    }
+}
@@ -0,0 +1,68 @@
+package net.caspervg.jgaf.step.mutator;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.step.MutableMutator;
+import net.caspervg.jgaf.step.Mutator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ParallelMutatorTest {
+
+    private static final Mutator<String> APPEND = (arguments, child) -> child + arguments.random().nextInt(1000);
+
+    @Test
+    public void testIndependentOfParallelism() throws Exception {
+        List<String> children = children(100);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            Collection<String> first = new ParallelMutator<>(APPEND, single).mutate(new Arguments.Default(3), children);
+            Collection<String> second = new ParallelMutator<>(APPEND, many).mutate(new Arguments.Default(3), children);
+
+            assertEquals(children.size(), first.size());
+            assertEquals(new ArrayList<>(first), new ArrayList<>(second));
+            assertEquals(children(100), children);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    public void testMutatesInPlace() throws Exception {
+        List<StringBuilder> children = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            children.add(new StringBuilder("c" + i));
+        }
+        MutableMutator<StringBuilder> mutator = (arguments, child) -> child.append('!');
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<StringBuilder> mutated = new ArrayList<>(new ParallelMutator<>(mutator, pool)
+                    .mutate(new Arguments.Default(), children));
+
+            for (int i = 0; i < children.size(); i++) {
+                assertSame(children.get(i), mutated.get(i));
+                assertEquals("c" + i + "!", mutated.get(i).toString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> children(int count) {
+        List<String> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            children.add("c" + i);
+        }
+        return children;
+    }
+}
@@ -0,0 +1,107 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.RandomSource;
+import net.caspervg.jgaf.ScoredPopulation;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FitnessProportionateSelectorTest {
+
+    private static final double[] WEIGHTS = {0.0, 1.0, 2.0, 3.0, 4.0};
+
+    @Test
+    public void testRouletteWheelTakesEveryIndexOnce() throws Exception {
+        RouletteWheel wheel = new RouletteWheel(WEIGHTS);
+        RandomSource random = new RandomSource.Splittable(42);
+
+        Set<Integer> taken = new HashSet<>();
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            taken.add(wheel.spin(random));
+        }
+
+        assertEquals(WEIGHTS.length, taken.size());
+    }
+
+    @Test
+    public void testRouletteWheelIsProportionate() throws Exception {
+        RandomSource random = new RandomSource.Splittable(42);
+        int[] counts = new int[WEIGHTS.length];
+        for (int i = 0; i < 100000; i++) {
+            counts[new RouletteWheel(WEIGHTS).spin(random)]++;
+        }
+
+        assertProportionate(counts, 100000);
+    }
+
+    @Test
+    public void testAliasTableIsProportionate() throws Exception {
+        AliasTable table = new AliasTable(WEIGHTS);
+        RandomSource random = new RandomSource.Splittable(42);
+        int[] counts = new int[WEIGHTS.length];
+        for (int i = 0; i < 100000; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        assertProportionate(counts, 100000);
+    }
+
+    @Test
+    public void testWeightsFollowTheGoal() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, Arrays.asList(0, 1, 2, 3, 4));
+        Arguments arguments = new Arguments() {
+            @Override
+            public int breedingPoolSize() {
+                return 1;
+            }
+        };
+        FitnessProportionateSelector<Integer> selector = new FitnessProportionateSelector<>(organism -> organism);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(selector.selectIndices(arguments, population, new Goal.Maximum())[0] != 0);
+            assertTrue(selector.selectIndices(arguments, population, new Goal.Minimum())[0] != 4);
+        }
+    }
+
+    @Test
+    public void testStochasticUniversalSampling() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, Arrays.asList(0, 1, 2, 3, 4));
+        Arguments arguments = new Arguments() {
+            @Override
+            public int breedingPoolSize() {
+                return 10;
+            }
+        };
+
+        int[] selected = new StochasticUniversalSelector<Integer>(organism -> organism)
+                .selectIndices(arguments, population, new Goal.Maximum());
+
+        int[] counts = new int[5];
+        for (int index : selected) {
+            counts[index]++;
+        }
+        // Every pointer is 1.0 apart, so each organism is selected exactly as often as its weight
+        assertEquals(0, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(2, counts[2]);
+        assertEquals(3, counts[3]);
+        assertEquals(4, counts[4]);
+    }
+
+    private void assertProportionate(int[] counts, int samples) {
+        double total = 0;
+        for (double weight : WEIGHTS) {
+            total += weight;
+        }
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            assertEquals(WEIGHTS[i] / total, counts[i] / (double) samples, 0.01);
+        }
+    }
+}
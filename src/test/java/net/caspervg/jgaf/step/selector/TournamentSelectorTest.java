@@ -0,0 +1,100 @@
+package net.caspervg.jgaf.step.selector;
+
+import net.caspervg.jgaf.Arguments;
+import net.caspervg.jgaf.Goal;
+import net.caspervg.jgaf.Population;
+import net.caspervg.jgaf.ScoredPopulation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TournamentSelectorTest {
+
+    private final Arguments arguments = new Arguments() {
+        @Override
+        public int populationSize() {
+            return 100;
+        }
+    };
+
+    @Test
+    public void testSelectsDistinctIndices() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, range(100));
+
+        int[] selected = new TournamentSelector<Integer>(organism -> organism, 5)
+                .selectIndices(arguments, population, new Goal.Maximum());
+
+        Set<Integer> distinct = new HashSet<>();
+        for (int index : selected) {
+            distinct.add(index);
+        }
+        assertEquals(arguments.breedingPoolSize(), selected.length);
+        assertEquals(selected.length, distinct.size());
+    }
+
+    @Test
+    public void testFullTournamentPicksTheBest() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, range(100));
+        TournamentSelector<Integer> selector = new TournamentSelector<>(organism -> organism, 100);
+
+        int[] best = selector.selectIndices(arguments, population, new Goal.Maximum());
+        int[] worst = selector.selectIndices(arguments, population, new Goal.Minimum());
+
+        assertArrayEquals(new int[]{99, 98, 97, 96, 95, 94, 93, 92, 91, 90}, best);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, worst);
+    }
+
+    @Test
+    public void testWithReplacement() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, range(100));
+
+        int[] selected = new TournamentSelector<Integer>(organism -> organism, 2000, true, 1.0)
+                .selectIndices(arguments, population, new Goal.Maximum());
+
+        // 2000 draws with replacement from 100 candidates almost surely include the best one
+        assertEquals(99, selected[0]);
+        assertEquals(arguments.breedingPoolSize(), selected.length);
+    }
+
+    @Test
+    public void testProbabilisticTournament() throws Exception {
+        ScoredPopulation<Integer> population = new ScoredPopulation<>(organism -> organism, range(100));
+        TournamentSelector<Integer> selector = new TournamentSelector<>(organism -> organism, 100, false, 0.5);
+
+        int bestWins = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (selector.selectIndices(arguments, population, new Goal.Maximum())[0] == 99) {
+                bestWins++;
+            }
+        }
+        assertEquals(500, bestWins, 75);
+    }
+
+    @Test
+    public void testUnscoredPopulation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Population<Integer> population = new Population.Default<>(range(100));
+
+        new TournamentSelector<Integer>(organism -> {
+            calls.incrementAndGet();
+            return organism;
+        }, 100).selectIndices(arguments, population, new Goal.Maximum());
+
+        assertEquals(100, calls.get());
+    }
+
+    private List<Integer> range(int size) {
+        List<Integer> organisms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            organisms.add(i);
+        }
+        return organisms;
+    }
+}